@@ -0,0 +1,99 @@
+package io.github.mcengine.common.lang.loadtest;
+
+/**
+ * Fixed-memory latency histogram with log-linear buckets (about 3% relative precision).
+ *
+ * <p>
+ * Each power-of-two range of nanoseconds is split into {@value #SUB_BUCKETS} linear sub-buckets, so
+ * recording is a few shifts and an array increment regardless of how many samples are taken. Not
+ * thread-safe: keep one instance per worker thread and {@link #merge} them when reporting.
+ * </p>
+ */
+final class MCEngineLangLatencyHistogram {
+
+    /** Linear sub-buckets per power of two; must be a power of two. */
+    private static final int SUB_BUCKETS = 32;
+
+    /** {@code log2(SUB_BUCKETS)}. */
+    private static final int SUB_BITS = Integer.numberOfTrailingZeros(SUB_BUCKETS);
+
+    /** Powers of two covered (values up to {@code 2^47} ns, about 39 hours). */
+    private static final int RANGES = 48;
+
+    /** Sample counts per bucket. */
+    private final long[] counts = new long[RANGES * SUB_BUCKETS];
+
+    /** Number of recorded samples. */
+    private long total;
+
+    /** Largest recorded value, in nanoseconds. */
+    private long max;
+
+    /**
+     * Records one sample.
+     *
+     * @param nanos latency in nanoseconds
+     */
+    void record(long nanos) {
+        if (nanos < 0) nanos = 0;
+        counts[indexOf(nanos)]++;
+        total++;
+        if (nanos > max) max = nanos;
+    }
+
+    /**
+     * Adds every sample of another histogram to this one.
+     *
+     * @param other histogram to merge
+     */
+    void merge(MCEngineLangLatencyHistogram other) {
+        for (int i = 0; i < counts.length; i++) counts[i] += other.counts[i];
+        total += other.total;
+        max = Math.max(max, other.max);
+    }
+
+    /** @return number of recorded samples */
+    long count() {
+        return total;
+    }
+
+    /** @return largest recorded value, in nanoseconds */
+    long max() {
+        return max;
+    }
+
+    /**
+     * Returns the value at a percentile (upper edge of the bucket holding it).
+     *
+     * @param percentile 0–100 (e.g., {@code 99.9})
+     * @return latency in nanoseconds, or 0 if nothing was recorded
+     */
+    long percentile(double percentile) {
+        if (total == 0) return 0;
+        long rank = (long) Math.ceil(total * percentile / 100.0);
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= Math.max(1, rank)) return Math.min(upperEdgeOf(i), max);
+        }
+        return max;
+    }
+
+    /** Maps a value to its bucket index. */
+    private static int indexOf(long nanos) {
+        if (nanos < SUB_BUCKETS) return (int) nanos;
+        int range = 63 - Long.numberOfLeadingZeros(nanos) - SUB_BITS + 1;
+        if (range >= RANGES) return RANGES * SUB_BUCKETS - 1;
+        int sub = (int) (nanos >>> (range - 1)) & (SUB_BUCKETS - 1);
+        return range * SUB_BUCKETS + sub;
+    }
+
+    /** Returns the largest value that maps to a bucket index. */
+    private static long upperEdgeOf(int index) {
+        int range = index / SUB_BUCKETS;
+        int sub = index % SUB_BUCKETS;
+        if (range == 0) return sub;
+        long base = (long) (SUB_BUCKETS + sub) << (range - 1);
+        return base + (1L << (range - 1)) - 1;
+    }
+}
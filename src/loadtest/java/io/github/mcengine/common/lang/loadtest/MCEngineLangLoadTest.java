@@ -0,0 +1,250 @@
+package io.github.mcengine.common.lang.loadtest;
+
+import io.github.mcengine.common.lang.MCEngineLangCommon;
+import org.bukkit.configuration.file.YamlConfiguration;
+import org.bukkit.entity.Player;
+import org.bukkit.plugin.Plugin;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.util.*;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Synthetic load test for the Lang module.
+ *
+ * <p>
+ * Creates {@code --players} mock players with random UUIDs, "joins" them (pre-login prefetch), then
+ * drives a weighted mix of {@code getLang}, {@code setLang}, {@code changeLang} and
+ * {@code getLangTextFromYml} through {@link MCEngineLangCommon} from {@code --threads} threads. After a
+ * warm-up phase, throughput and p50/p99/p999 latency are reported per operation.
+ * </p>
+ *
+ * <p>Run with {@code ./gradlew loadTest -PloadTestArgs="--players 5000 --threads 16"}. Options:</p>
+ * <ul>
+ *   <li>{@code --db} → sqlite | mysql | postgresql | memory | log (default: {@code sqlite})</li>
+ *   <li>{@code --jdbc-url} → e.g. {@code jdbc:mysql://host:3306/db}; selects mysql/postgresql from the URL</li>
+ *   <li>{@code --user}, {@code --password} → credentials for {@code --jdbc-url}</li>
+ *   <li>{@code --players} → simulated players (default: {@code 1000})</li>
+ *   <li>{@code --threads} → worker threads (default: {@code 8})</li>
+ *   <li>{@code --warmup}, {@code --duration} → seconds (default: {@code 5}, {@code 30})</li>
+ *   <li>{@code --mix} → weights, e.g. {@code get:70,text:20,set:5,change:5} (the default)</li>
+ *   <li>{@code --no-prefetch} → skip the join phase so {@code getLang} reaches the backend</li>
+ *   <li>{@code --data} → data folder (default: a fresh temporary directory)</li>
+ * </ul>
+ */
+public final class MCEngineLangLoadTest {
+
+    /** Language codes assigned by writes and bundled by the harness. */
+    private static final String[] LANGS = {"en-us", "th-th", "de-de", "fr-fr", "ja-jp"};
+
+    /** Keys written into every generated bundle. */
+    private static final int BUNDLE_KEYS = 200;
+
+    /** Operations, in the order used for weights and reports. */
+    private enum Op { GET, TEXT, SET, CHANGE }
+
+    private MCEngineLangLoadTest() {}
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> opts = parseArgs(args);
+        int players = Integer.parseInt(opts.getOrDefault("players", "1000"));
+        int threads = Integer.parseInt(opts.getOrDefault("threads", "8"));
+        int warmup = Integer.parseInt(opts.getOrDefault("warmup", "5"));
+        int duration = Integer.parseInt(opts.getOrDefault("duration", "30"));
+        int[] weights = parseMix(opts.getOrDefault("mix", "get:70,text:20,set:5,change:5"));
+
+        File dataFolder = opts.containsKey("data")
+                ? new File(opts.get("data"))
+                : Files.createTempDirectory("mcengine-lang-loadtest").toFile();
+        writeBundles(new File(dataFolder, "lang"));
+
+        YamlConfiguration config = new YamlConfiguration();
+        config.set("database.circuit-breaker.enabled", false);
+        configureDatabase(config, opts);
+        Plugin plugin = MCEngineLangLoadTestMocks.plugin("MCEngineLangLoadTest", dataFolder, config);
+
+        MCEngineLangCommon lang = new MCEngineLangCommon(plugin);
+        lang.loadLangBundles(plugin).join();
+        lang.getDBReady().join();
+
+        Player[] online = new Player[players];
+        for (int i = 0; i < players; i++) {
+            online[i] = MCEngineLangLoadTestMocks.player(UUID.randomUUID(), LANGS[i % LANGS.length]);
+        }
+        if (!opts.containsKey("no-prefetch")) {
+            for (Player p : online) lang.prefetchLang(p.getUniqueId());
+        }
+
+        System.out.printf("Backend %s, %d players, %d threads, mix %s, data %s%n",
+                config.getString("database.type"), players, threads, opts.getOrDefault("mix", "get:70,text:20,set:5,change:5"),
+                dataFolder.getAbsolutePath());
+
+        run(lang, plugin, online, threads, weights, TimeUnit.SECONDS.toNanos(warmup), false);
+        Result result = run(lang, plugin, online, threads, weights, TimeUnit.SECONDS.toNanos(duration), true);
+        report(result, duration);
+
+        lang.shutdown();
+    }
+
+    /** Runs the mix on {@code threads} workers for a fixed time and returns merged measurements. */
+    private static Result run(MCEngineLangCommon lang, Plugin plugin, Player[] online, int threads,
+                              int[] weights, long nanos, boolean measure) throws InterruptedException {
+        Result total = new Result();
+        Result[] perThread = new Result[threads];
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(threads);
+        long[] deadline = new long[1];
+        int weightSum = Arrays.stream(weights).sum();
+        String[] keys = new String[BUNDLE_KEYS];
+        for (int i = 0; i < keys.length; i++) keys[i] = "loadtest.key" + i;
+
+        for (int t = 0; t < threads; t++) {
+            Result mine = perThread[t] = new Result();
+            Thread worker = new Thread(() -> {
+                ThreadLocalRandom rnd = ThreadLocalRandom.current();
+                try {
+                    start.await();
+                    while (System.nanoTime() < deadline[0]) {
+                        Player player = online[rnd.nextInt(online.length)];
+                        Op op = pick(weights, weightSum, rnd.nextInt(weightSum));
+                        long began = System.nanoTime();
+                        try {
+                            switch (op) {
+                                case GET -> lang.getLang(player);
+                                case TEXT -> lang.getLangTextFromYml(plugin, player, keys[rnd.nextInt(keys.length)]);
+                                case SET -> lang.setLang(player, LANGS[rnd.nextInt(LANGS.length)]);
+                                case CHANGE -> lang.changeLang(player, LANGS[rnd.nextInt(LANGS.length)]);
+                            }
+                        } catch (RuntimeException e) {
+                            mine.errors[op.ordinal()]++;
+                        }
+                        if (measure) mine.latency[op.ordinal()].record(System.nanoTime() - began);
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            }, "MCEngineLang-loadtest-" + t);
+            worker.setDaemon(true);
+            worker.start();
+        }
+
+        deadline[0] = System.nanoTime() + nanos;
+        start.countDown();
+        done.await();
+        for (Result r : perThread) total.merge(r);
+        return total;
+    }
+
+    /** Selects an operation for a random draw in {@code [0, weightSum)}. */
+    private static Op pick(int[] weights, int weightSum, int draw) {
+        for (Op op : Op.values()) {
+            draw -= weights[op.ordinal()];
+            if (draw < 0) return op;
+        }
+        return Op.GET;
+    }
+
+    /** Prints throughput and latency percentiles per operation and overall. */
+    private static void report(Result result, int durationSeconds) {
+        MCEngineLangLatencyHistogram all = new MCEngineLangLatencyHistogram();
+        System.out.printf("%-8s %12s %12s %10s %10s %10s %10s %8s%n",
+                "op", "count", "ops/s", "p50 µs", "p99 µs", "p999 µs", "max µs", "errors");
+        for (Op op : Op.values()) {
+            MCEngineLangLatencyHistogram h = result.latency[op.ordinal()];
+            all.merge(h);
+            printRow(op.name().toLowerCase(), h, durationSeconds, result.errors[op.ordinal()]);
+        }
+        printRow("all", all, durationSeconds, Arrays.stream(result.errors).sum());
+    }
+
+    private static void printRow(String name, MCEngineLangLatencyHistogram h, int durationSeconds, long errors) {
+        System.out.printf("%-8s %12d %12.0f %10.1f %10.1f %10.1f %10.1f %8d%n",
+                name, h.count(), h.count() / (double) durationSeconds,
+                h.percentile(50) / 1000.0, h.percentile(99) / 1000.0, h.percentile(99.9) / 1000.0,
+                h.max() / 1000.0, errors);
+    }
+
+    /** Points the config at the requested backend. */
+    private static void configureDatabase(YamlConfiguration config, Map<String, String> opts) {
+        String url = opts.get("jdbc-url");
+        if (url == null) {
+            config.set("database.type", opts.getOrDefault("db", "sqlite"));
+            return;
+        }
+        URI uri = URI.create(url.substring("jdbc:".length()));
+        String type = uri.getScheme();
+        if (!"mysql".equals(type) && !"postgresql".equals(type)) {
+            throw new IllegalArgumentException("Unsupported JDBC URL (mysql or postgresql expected): " + url);
+        }
+        config.set("database.type", type);
+        config.set("database." + type + ".host", uri.getHost());
+        if (uri.getPort() > 0) config.set("database." + type + ".port", uri.getPort());
+        if (uri.getPath() != null && uri.getPath().length() > 1) {
+            config.set("database." + type + ".database", uri.getPath().substring(1));
+        }
+        if (opts.containsKey("user")) config.set("database." + type + ".user", opts.get("user"));
+        if (opts.containsKey("password")) config.set("database." + type + ".password", opts.get("password"));
+    }
+
+    /** Writes one bundle per harness language with {@value #BUNDLE_KEYS} keys. */
+    private static void writeBundles(File langDir) throws IOException {
+        if (!langDir.isDirectory() && !langDir.mkdirs()) throw new IOException("Cannot create " + langDir);
+        for (String code : LANGS) {
+            YamlConfiguration bundle = new YamlConfiguration();
+            // leave every tenth key to the en-us fallback
+            for (int i = 0; i < BUNDLE_KEYS; i++) {
+                if (code.equals("en-us") || i % 10 != 0) bundle.set("loadtest.key" + i, code + " text " + i);
+            }
+            bundle.save(new File(langDir, code + ".yml"));
+        }
+    }
+
+    /** Parses {@code get:70,text:20,...} into weights indexed by {@link Op#ordinal()}. */
+    private static int[] parseMix(String mix) {
+        int[] weights = new int[Op.values().length];
+        for (String part : mix.split(",")) {
+            String[] kv = part.trim().split(":");
+            weights[Op.valueOf(kv[0].trim().toUpperCase()).ordinal()] = Integer.parseInt(kv[1].trim());
+        }
+        if (Arrays.stream(weights).sum() <= 0) throw new IllegalArgumentException("Empty mix: " + mix);
+        return weights;
+    }
+
+    /** Parses {@code --name value} pairs; a flag without a value maps to {@code "true"}. */
+    private static Map<String, String> parseArgs(String[] args) {
+        Map<String, String> opts = new HashMap<>();
+        for (int i = 0; i < args.length; i++) {
+            if (!args[i].startsWith("--")) throw new IllegalArgumentException("Unexpected argument: " + args[i]);
+            String name = args[i].substring(2);
+            boolean hasValue = i + 1 < args.length && !args[i + 1].startsWith("--");
+            opts.put(name, hasValue ? args[++i] : "true");
+        }
+        return opts;
+    }
+
+    /** Latency histograms and error counts per operation. */
+    private static final class Result {
+
+        final MCEngineLangLatencyHistogram[] latency = new MCEngineLangLatencyHistogram[Op.values().length];
+
+        final long[] errors = new long[Op.values().length];
+
+        Result() {
+            for (int i = 0; i < latency.length; i++) latency[i] = new MCEngineLangLatencyHistogram();
+        }
+
+        void merge(Result other) {
+            for (int i = 0; i < latency.length; i++) {
+                latency[i].merge(other.latency[i]);
+                errors[i] += other.errors[i];
+            }
+        }
+    }
+}
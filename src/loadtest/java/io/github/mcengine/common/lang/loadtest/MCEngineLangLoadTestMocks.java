@@ -0,0 +1,113 @@
+package io.github.mcengine.common.lang.loadtest;
+
+import org.bukkit.Server;
+import org.bukkit.configuration.file.FileConfiguration;
+import org.bukkit.entity.Player;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.plugin.PluginManager;
+import org.bukkit.scheduler.BukkitScheduler;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.io.File;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Map;
+import java.util.UUID;
+import java.util.logging.Logger;
+
+/**
+ * Minimal Bukkit stand-ins for running the Lang module outside a server.
+ *
+ * <p>
+ * Each mock is a {@link Proxy} that answers the handful of methods the module calls and returns a
+ * neutral default ({@code null}, {@code 0}, {@code false}) for everything else. The scheduler never
+ * runs tasks, so periodic jobs (circuit-breaker probes, memory snapshots) do not fire; the harness
+ * therefore disables the circuit breaker.
+ * </p>
+ */
+final class MCEngineLangLoadTestMocks {
+
+    private MCEngineLangLoadTestMocks() {}
+
+    /**
+     * Creates a plugin whose data folder, config and logger are real objects.
+     *
+     * @param name       plugin name
+     * @param dataFolder data folder (lang bundles, SQLite file)
+     * @param config     configuration returned by {@code getConfig()}
+     * @return mock plugin
+     */
+    static Plugin plugin(String name, File dataFolder, FileConfiguration config) {
+        Logger logger = Logger.getLogger(name);
+        BukkitTask task = proxy(BukkitTask.class, Map.of("isCancelled", true));
+        BukkitScheduler scheduler = proxy(BukkitScheduler.class, Map.of(
+                "runTaskTimerAsynchronously", task,
+                "runTaskAsynchronously", task,
+                "runTask", task,
+                "runTaskLater", task));
+        PluginManager pluginManager = proxy(PluginManager.class, Map.of());
+        Server server = proxy(Server.class, Map.of(
+                "getScheduler", scheduler,
+                "getPluginManager", pluginManager,
+                "getLogger", logger));
+        return proxy(Plugin.class, Map.of(
+                "getName", name,
+                "getDataFolder", dataFolder,
+                "getConfig", config,
+                "getLogger", logger,
+                "getServer", server,
+                "isEnabled", true));
+    }
+
+    /**
+     * Creates an online player.
+     *
+     * @param uuid   unique id
+     * @param locale client locale reported by {@code getLocale()}
+     * @return mock player
+     */
+    static Player player(UUID uuid, String locale) {
+        return proxy(Player.class, Map.of(
+                "getUniqueId", uuid,
+                "getName", "lt-" + uuid.toString().substring(0, 8),
+                "getLocale", locale,
+                "isOnline", true));
+    }
+
+    /** Builds a proxy that answers methods from {@code answers} by name, regardless of arguments. */
+    private static <T> T proxy(Class<T> type, Map<String, Object> answers) {
+        InvocationHandler handler = (self, method, args) -> {
+            switch (method.getName()) {
+                case "hashCode":
+                    if (method.getParameterCount() == 0) return System.identityHashCode(self);
+                    break;
+                case "equals":
+                    if (method.getParameterCount() == 1) return self == args[0];
+                    break;
+                case "toString":
+                    if (method.getParameterCount() == 0) return type.getSimpleName() + answers;
+                    break;
+                default:
+                    break;
+            }
+            Object answer = answers.get(method.getName());
+            return answer != null ? answer : defaultFor(method);
+        };
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, handler));
+    }
+
+    /** Neutral return value for an unanswered method. */
+    private static Object defaultFor(Method method) {
+        Class<?> r = method.getReturnType();
+        if (!r.isPrimitive() || r == void.class) return null;
+        if (r == boolean.class) return false;
+        if (r == char.class) return '\0';
+        if (r == byte.class) return (byte) 0;
+        if (r == short.class) return (short) 0;
+        if (r == int.class) return 0;
+        if (r == long.class) return 0L;
+        if (r == float.class) return 0f;
+        return 0d;
+    }
+}
@@ -1,15 +1,61 @@
 package io.github.mcengine.common.lang;
 
+import io.github.mcengine.common.lang.bundle.MCEngineLangBundleRegistry;
+import io.github.mcengine.common.lang.bundle.MCEngineLangFormatter;
+import io.github.mcengine.common.lang.bundle.MCEngineLangKey;
+import io.github.mcengine.common.lang.bundle.MCEngineLangSection;
+import io.github.mcengine.common.lang.cache.MCEngineLangOfflineCache;
+import io.github.mcengine.common.lang.cache.MCEngineLangRenderCache;
+import io.github.mcengine.common.lang.cache.MCEngineLangSessionCache;
+import io.github.mcengine.common.lang.cache.MCEngineLangWarmStart;
+import io.github.mcengine.common.lang.concurrent.MCEngineLangStripedExecutor;
 import io.github.mcengine.common.lang.database.IMCEngineLangDB;
+import io.github.mcengine.common.lang.database.IMCEngineLangRowMapper;
+import io.github.mcengine.common.lang.database.MCEngineLangDBException;
+import io.github.mcengine.common.lang.database.breaker.MCEngineLangCircuitBreaker;
+import io.github.mcengine.common.lang.database.deferred.MCEngineLangDeferredDB;
+import io.github.mcengine.common.lang.database.log.MCEngineLangLog;
+import io.github.mcengine.common.lang.database.memory.MCEngineLangMemory;
+import io.github.mcengine.common.lang.database.migration.MCEngineLangMigration;
 import io.github.mcengine.common.lang.database.mysql.MCEngineLangMySQL;
 import io.github.mcengine.common.lang.database.postgresql.MCEngineLangPostgreSQL;
 import io.github.mcengine.common.lang.database.sqlite.MCEngineLangSQLite;
-import org.bukkit.configuration.file.FileConfiguration;
-import org.bukkit.configuration.file.YamlConfiguration;
+import io.github.mcengine.common.lang.database.tiered.MCEngineLangTiered;
+import io.github.mcengine.common.lang.invalidation.IMCEngineLangInvalidationTransport;
+import io.github.mcengine.common.lang.invalidation.MCEngineLangBungeeTransport;
+import io.github.mcengine.common.lang.invalidation.MCEngineLangInvalidationBus;
+import io.github.mcengine.common.lang.invalidation.MCEngineLangLoopbackTransport;
+import io.github.mcengine.common.lang.jfr.MCEngineLangCacheMissEvent;
+import io.github.mcengine.common.lang.jfr.MCEngineLangRecordingDB;
+import io.github.mcengine.common.lang.listener.MCEngineLangListener;
+import io.github.mcengine.common.lang.stats.MCEngineLangDistribution;
+import org.bukkit.OfflinePlayer;
 import org.bukkit.entity.Player;
 import org.bukkit.plugin.Plugin;
 
 import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 /**
  * Wires a Bukkit {@link Plugin} to an {@link IMCEngineLangDB} backend and exposes
@@ -21,6 +67,51 @@ import java.io.File;
  * Language codes are normalized before use: they are converted to lower case and
  * underscores are replaced with hyphens (e.g., {@code en_us → en-us}).
  * </p>
+ *
+ * <p>
+ * Languages of online players are kept in a {@link MCEngineLangSessionCache}. The built-in
+ * {@link MCEngineLangListener} fills it during {@code AsyncPlayerPreLoginEvent}, so the first
+ * lookup after join is served from memory instead of the database.
+ * </p>
+ *
+ * <p>
+ * Players without a session can be looked up and updated by UUID ({@link #getLang(UUID)},
+ * {@link #setLang(UUID, String)}). Their overrides are kept in a separate
+ * {@link MCEngineLangOfflineCache} bounded by {@code lang.offline-cache.size} (default: {@code 10000})
+ * and {@code lang.offline-cache.ttl} seconds (default: {@code 300}), so bulk offline notifications
+ * cost at most one query per recipient per TTL.
+ * </p>
+ *
+ * <p>
+ * With {@code lang.client-locale: true}, players default to their client's locale
+ * ({@link Player#getLocale()}, kept current through {@code PlayerLocaleChangeEvent}) and only
+ * explicit overrides are persisted in the {@code lang} table.
+ * </p>
+ *
+ * <p>
+ * With {@code lang.invalidation.transport} set, successful writes are pushed to the other servers of the
+ * network through a {@link MCEngineLangInvalidationBus}, which update their caches right away.
+ * </p>
+ *
+ * <p>
+ * With {@code lang.warm-start.enabled: true}, the known overrides are written to a
+ * {@link MCEngineLangWarmStart} snapshot ({@code lang.warm-start.file}, default: {@code lang-warm.dat})
+ * on shutdown. At the next enable the snapshot is reconciled with one row-version query (plus a
+ * batched existence check of its overrides, which catches deleted rows) and then answers pre-login
+ * lookups for {@code lang.warm-start.window} seconds (default: {@code 300}), so a restart wave does
+ * not query the database once per player. The row-version watermark is taken as soon as the backend
+ * exists, before any lookup reaches it. Snapshots older than
+ * {@code lang.warm-start.max-age} seconds (default: {@code 86400}) are ignored, and at most
+ * {@code lang.warm-start.max-entries} players (default: {@code 50000}) are saved.
+ * </p>
+ *
+ * <p>
+ * A lookup that misses every cache waits at most {@code lang.lookup-budget-ms} (default: {@code 100};
+ * {@code 0} waits indefinitely) for the database. Past the budget it resolves as if the player had no
+ * override and the read completes in the background, caching its result for the next lookup;
+ * {@link #getLookupTimeouts()} counts these fallbacks. A failed read falls back the same way and is not
+ * cached. Writes and {@link #prefetchLang(UUID)} always wait for the stored value.
+ * </p>
  */
 public final class MCEngineLangCommon {
 
@@ -33,32 +124,237 @@ public final class MCEngineLangCommon {
     /** Database interface used by the Lang module. */
     private final IMCEngineLangDB db;
 
-    /** Name of the language directory under a plugin's data folder. */
-    private static final String LANG_DIR_NAME = "lang";
+    /** Configured {@code database.type} of {@link #db} (lower case). */
+    private final String dbType;
+
+    /** Circuit breaker in front of the backend; {@code null} when disabled. */
+    private final MCEngineLangCircuitBreaker breaker;
 
-    /** File extension for language bundles. */
-    private static final String YAML_EXTENSION = ".yml";
+    /** Completed once the backend is connected and its schema checked. */
+    private final CompletableFuture<Void> dbReady;
+
+    /** Languages of players with an active session, staged at pre-login. */
+    private final MCEngineLangSessionCache sessions = new MCEngineLangSessionCache();
+
+    /** Overrides of players without a session, bounded by size and TTL. */
+    private final MCEngineLangOfflineCache offline;
+
+    /**
+     * Whether players without a stored override default to their client locale
+     * ({@code lang.client-locale}) instead of {@code en-us}.
+     */
+    private final boolean clientLocaleDefault;
+
+    /** Parsed language bundles per plugin. */
+    private final MCEngineLangBundleRegistry bundles;
+
+    /** Memoized {@link #formatLangText} results; {@code null} when disabled. */
+    private final MCEngineLangRenderCache renderCache;
+
+    /** Per-player ordered write queue; one stripe per backend connection. */
+    private final MCEngineLangStripedExecutor writes;
+
+    /** Pushes local changes to other servers; {@code null} when disabled. */
+    private final MCEngineLangInvalidationBus invalidation;
+
+    /** Warm-start snapshot file; {@code null} when {@code lang.warm-start.enabled} is off. */
+    private final File warmStartFile;
+
+    /** Overrides carried over from the previous run; {@code null} when none are available. */
+    private volatile MCEngineLangWarmStart warm;
+
+    /** Whether {@link #warm} has been reconciled with the database and may answer lookups. */
+    private volatile boolean warmReconciled;
+
+    /** Row-version watermark taken when this run started caching; {@code -1} if unknown. */
+    private volatile long watermark = -1L;
+
+    /** Longest a cache-miss lookup waits for the database, in milliseconds; {@code 0} for no limit. */
+    private final long lookupBudgetMillis;
+
+    /** Cache-miss reads in flight per player, shared by concurrent lookups. */
+    private final Map<UUID, CompletableFuture<String>> pendingReads = new ConcurrentHashMap<>();
+
+    /** Lookups answered with defaults because the database exceeded the budget. */
+    private final AtomicLong lookupTimeouts = new AtomicLong();
+
+    /** Stored rows per language, seeded once and maintained on every write. */
+    private final MCEngineLangDistribution distribution = new MCEngineLangDistribution();
 
     /** Default language code when none is stored or the bundle is missing. */
     private static final String DEFAULT_LANG = "en-us";
 
+    /** Players per existence check when reconciling a warm-start snapshot. */
+    private static final int WARM_CHECK_BATCH = 500;
+
     /**
      * Constructs the Lang API and selects the database implementation from config
-     * ({@code database.type}: sqlite | mysql | postgresql).
+     * ({@code database.type}: sqlite | mysql | postgresql | memory | log | tiered, see {@link #createDB}).
+     * Unless {@code database.circuit-breaker.enabled} is {@code false}, the backend is wrapped in a
+     * {@link MCEngineLangCircuitBreaker} so an unreachable database degrades instead of stalling. Answers
+     * served while it is open are not cached, and cached languages are re-read once it closes again.
+     *
+     * <p>
+     * Unless {@code database.async-init} is {@code false}, the backend is created on a background thread
+     * behind a {@link MCEngineLangDeferredDB}, so connecting and schema checks do not delay plugin enable;
+     * see {@link #getDBReady()}.
+     * </p>
      *
      * @param plugin Bukkit plugin instance
      */
     public MCEngineLangCommon(Plugin plugin) {
         instance = this;
         this.plugin = plugin;
+        this.clientLocaleDefault = plugin.getConfig().getBoolean("lang.client-locale", false);
+        this.offline = new MCEngineLangOfflineCache(
+                plugin.getConfig().getInt("lang.offline-cache.size", 10_000),
+                plugin.getConfig().getLong("lang.offline-cache.ttl", 300L) * 1000L);
+        this.lookupBudgetMillis = Math.max(0L, plugin.getConfig().getLong("lang.lookup-budget-ms", 100L));
 
         String dbType = plugin.getConfig().getString("database.type", "sqlite").toLowerCase();
-        switch (dbType) {
-            case "sqlite" -> this.db = new MCEngineLangSQLite(plugin);
-            case "mysql" -> this.db = new MCEngineLangMySQL(plugin);
-            case "postgresql" -> this.db = new MCEngineLangPostgreSQL(plugin);
+        this.dbType = dbType;
+        boolean warmStartEnabled = plugin.getConfig().getBoolean("lang.warm-start.enabled", false);
+        IMCEngineLangDB backend;
+        if (plugin.getConfig().getBoolean("database.async-init", true)) {
+            requireKnownType(plugin, dbType); // fail fast at enable, not on the init thread
+            // The watermark is taken on the init thread, before the deferred backend lets lookups through.
+            MCEngineLangDeferredDB deferred = new MCEngineLangDeferredDB(plugin, dbType,
+                    () -> takeWatermark(createDB(plugin, dbType), warmStartEnabled),
+                    writeParallelismOf(plugin, dbType));
+            backend = deferred;
+            this.dbReady = deferred.getReady().thenRun(this::restage);
+        } else {
+            backend = takeWatermark(createDB(plugin, dbType), warmStartEnabled);
+            this.dbReady = CompletableFuture.completedFuture(null);
+        }
+        if (plugin.getConfig().getBoolean("database.circuit-breaker.enabled", true)) {
+            // File-owning backends must not be opened twice, so only the others are rebuilt on recovery.
+            boolean rebuildable = !dbType.equals("memory") && !dbType.equals("log");
+            this.breaker = new MCEngineLangCircuitBreaker(plugin, backend,
+                    rebuildable ? () -> createDB(plugin, dbType) : null);
+            this.breaker.setRecoveryListener(this::restage);
+            this.db = breaker;
+        } else {
+            this.breaker = null;
+            this.db = backend;
+        }
+        this.writes = new MCEngineLangStripedExecutor(db.getWriteParallelism(), "MCEngineLang-write");
+        dbReady.thenRun(this::seedDistribution); // the seed pauses every stripe; never behind initialization
+
+        this.bundles = new MCEngineLangBundleRegistry(DEFAULT_LANG,
+                plugin.getConfig().getInt("lang.bundle-load-threads", Runtime.getRuntime().availableProcessors()));
+        this.renderCache = plugin.getConfig().getBoolean("lang.render-cache.enabled", false)
+                ? new MCEngineLangRenderCache(plugin.getConfig().getInt("lang.render-cache.size", 512))
+                : null;
+        loadLangBundles(plugin);
+
+        IMCEngineLangInvalidationTransport transport = createTransport(plugin,
+                plugin.getConfig().getString("lang.invalidation.transport", "none"));
+        this.invalidation = transport == null ? null : new MCEngineLangInvalidationBus(plugin, transport,
+                this::applyRemoteChange,
+                plugin.getConfig().getLong("lang.invalidation.flush-ticks", 2L),
+                plugin.getConfig().getInt("lang.invalidation.max-batch", 1024));
+        if (invalidation != null) invalidation.start();
+
+        this.warmStartFile = warmStartEnabled
+                ? new File(plugin.getDataFolder(), plugin.getConfig().getString("lang.warm-start.file", "lang-warm.dat"))
+                : null;
+        if (warmStartFile != null) {
+            dbReady.thenRun(() -> plugin.getServer().getScheduler().runTaskAsynchronously(plugin, this::warmStart));
+        }
+
+        plugin.getServer().getPluginManager().registerEvents(new MCEngineLangListener(this), plugin);
+    }
+
+    /**
+     * Creates the invalidation transport for a {@code lang.invalidation.transport} value.
+     *
+     * @param plugin Bukkit plugin instance
+     * @param type   none | bungeecord | loopback (case-insensitive)
+     * @return a new transport, or {@code null} for {@code none}
+     * @throws IllegalArgumentException if the type is unknown
+     */
+    private static IMCEngineLangInvalidationTransport createTransport(Plugin plugin, String type) {
+        return switch (type.toLowerCase()) {
+            case "none" -> null;
+            case "bungeecord", "velocity" -> new MCEngineLangBungeeTransport(plugin);
+            case "loopback" -> new MCEngineLangLoopbackTransport(MCEngineLangLoopbackTransport.Network.SHARED);
+            default -> throw new IllegalArgumentException("Unsupported invalidation transport for Lang: " + type);
+        };
+    }
+
+    /**
+     * Creates a new backend instance for a {@code database.type} value, using the
+     * connection settings of that type from the plugin config.
+     *
+     * @param plugin Bukkit plugin instance
+     * @param dbType sqlite | mysql | postgresql | memory | log | tiered (case-insensitive)
+     * @return a new, connected backend, wrapped in a {@link MCEngineLangRecordingDB} that emits JFR events
+     * @throws IllegalArgumentException if the type is unknown
+     */
+    public static IMCEngineLangDB createDB(Plugin plugin, String dbType) {
+        String type = dbType.toLowerCase();
+        IMCEngineLangDB backend = switch (type) {
+            case "sqlite" -> new MCEngineLangSQLite(plugin);
+            case "mysql" -> new MCEngineLangMySQL(plugin);
+            case "postgresql" -> new MCEngineLangPostgreSQL(plugin);
+            case "memory" -> new MCEngineLangMemory(plugin);
+            case "log" -> new MCEngineLangLog(plugin);
+            case "tiered" -> {
+                String remoteType = plugin.getConfig().getString("database.tiered.remote", "mysql").toLowerCase();
+                if (!remoteType.equals("mysql") && !remoteType.equals("postgresql")) {
+                    throw new IllegalArgumentException("Unsupported remote database type for tiered Lang: " + remoteType);
+                }
+                IMCEngineLangDB remote = createDB(plugin, remoteType);
+                IMCEngineLangDB local = new MCEngineLangRecordingDB(new MCEngineLangSQLite(plugin,
+                        plugin.getConfig().getString("database.tiered.local-path", "lang-cache.db")), "sqlite-local");
+                yield new MCEngineLangTiered(plugin, remote, local);
+            }
             default -> throw new IllegalArgumentException("Unsupported database type for Lang: " + dbType);
+        };
+        return new MCEngineLangRecordingDB(backend, type);
+    }
+
+    /**
+     * Checks a {@code database.type} value (and {@code database.tiered.remote} for {@code tiered}) without
+     * creating a backend.
+     *
+     * @throws IllegalArgumentException if the type is unknown
+     */
+    private static void requireKnownType(Plugin plugin, String dbType) {
+        switch (dbType.toLowerCase()) {
+            case "sqlite", "mysql", "postgresql", "memory", "log" -> { }
+            case "tiered" -> {
+                String remoteType = plugin.getConfig().getString("database.tiered.remote", "mysql").toLowerCase();
+                if (!remoteType.equals("mysql") && !remoteType.equals("postgresql")) {
+                    throw new IllegalArgumentException("Unsupported remote database type for tiered Lang: " + remoteType);
+                }
+            }
+            default -> throw new IllegalArgumentException("Unsupported database type for Lang: " + dbType);
+        }
+    }
+
+    /** Write parallelism a backend type will report, known before the backend is created. */
+    private static int writeParallelismOf(Plugin plugin, String dbType) {
+        String type = dbType.toLowerCase();
+        if (type.equals("tiered")) type = plugin.getConfig().getString("database.tiered.remote", "mysql").toLowerCase();
+        return switch (type) {
+            case "mysql", "postgresql" -> Math.max(1, plugin.getConfig().getInt("database." + type + ".pool-size", 4));
+            default -> 1;
+        };
+    }
+
+    /** Flushes queued writes and releases the database backend. Call from the plugin's {@code onDisable}. */
+    public void shutdown() {
+        if (!writes.shutdown(10_000L)) {
+            plugin.getLogger().warning("Lang writes did not finish within 10s; some changes may be lost.");
         }
+        if (invalidation != null) invalidation.close();
+        saveWarmStart();
+        sessions.clear();
+        offline.clear();
+        bundles.shutdown();
+        db.close();
     }
 
     /** Returns the global Lang API singleton instance. */
@@ -70,6 +366,21 @@ public final class MCEngineLangCommon {
     /** Returns the database interface used by this module. */
     public IMCEngineLangDB getDB() { return db; }
 
+    /** Returns the cross-server invalidation bus, or {@code null} if {@code lang.invalidation.transport} is {@code none}. */
+    public MCEngineLangInvalidationBus getInvalidationBus() { return invalidation; }
+
+    /**
+     * Returns a future completed once the database backend is connected and its schema checked
+     * (immediately with {@code database.async-init: false}). Lookups made earlier are answered with
+     * defaults after a bounded wait; writes wait for the backend in order.
+     *
+     * @return readiness future; completes exceptionally if the backend could not be created
+     */
+    public CompletableFuture<Void> getDBReady() { return dbReady; }
+
+    /** Returns how many lookups fell back to defaults because the database exceeded {@code lang.lookup-budget-ms}. */
+    public long getLookupTimeouts() { return lookupTimeouts.get(); }
+
     // ------------------------------
     // Pass-through query helpers (parity with Economy)
     // ------------------------------
@@ -95,23 +406,652 @@ public final class MCEngineLangCommon {
         return db.getValue(query, type);
     }
 
+    /**
+     * Executes a parameterized non-returning command through a cached prepared statement.
+     *
+     * @param sql    statement with {@code ?} placeholders
+     * @param params bound arguments, in placeholder order
+     * @return affected row count, or {@code -1} on error
+     */
+    public int executeUpdate(String sql, Object... params) {
+        return db.executeUpdate(sql, params);
+    }
+
+    /**
+     * Executes a parameterized query that returns a single value.
+     *
+     * @param sql    query with {@code ?} placeholders
+     * @param type   expected Java type
+     * @param params bound arguments, in placeholder order
+     * @param <T>    generic type
+     * @return value if present; otherwise {@code null}
+     */
+    public <T> T getValue(String sql, Class<T> type, Object... params) {
+        return db.getValue(sql, type, params);
+    }
+
+    /**
+     * Executes a parameterized query and streams each mapped row into {@code consumer}.
+     *
+     * @param sql       query with {@code ?} placeholders
+     * @param fetchSize rows fetched per round trip
+     * @param mapper    converts the current row
+     * @param consumer  receives each mapped row
+     * @param params    bound arguments, in placeholder order
+     * @param <T>       mapped row type
+     * @return number of rows streamed, or {@code -1} on error
+     */
+    public <T> long forEachRow(String sql, int fetchSize, IMCEngineLangRowMapper<T> mapper,
+                               Consumer<? super T> consumer, Object... params) {
+        return db.forEachRow(sql, fetchSize, mapper, consumer, params);
+    }
+
     // ------------------------------
     // Delegated operations
     // ------------------------------
 
-    /** @return player's saved language (normalized) or "en-us" if absent */
+    /**
+     * Resolves the player's effective language (normalized).
+     *
+     * <p>
+     * A stored override always wins. Without one, the player gets the client locale when
+     * {@code lang.client-locale} is enabled, otherwise {@code "en-us"}. For players whose
+     * session is staged this is answered from memory without any query.
+     * </p>
+     */
     public String getLang(Player player) {
-        return normalizeLang(db.getLang(player));
+        return resolveLang(player, storedOverride(player, lookupBudgetMillis));
+    }
+
+    /**
+     * Gets a player's language by UUID, for players who may be offline.
+     *
+     * <p>
+     * Resolves like {@link #getLang(Player)}; without a stored override the result is the last
+     * reported client locale in client-locale mode (if the player has a session), otherwise
+     * {@code "en-us"}. Players without a session are answered from the offline cache when possible.
+     * </p>
+     *
+     * <p>Blocking on a cache miss; avoid calling from the main thread for offline players.</p>
+     *
+     * @param playerUuid player's unique id
+     * @return normalized language code
+     */
+    public String getLang(UUID playerUuid) {
+        String override = storedOverride(playerUuid, lookupBudgetMillis);
+        if (override != null) return override;
+        String locale = clientLocaleDefault ? sessions.getLocale(playerUuid) : null;
+        return locale != null ? locale : DEFAULT_LANG;
     }
 
-    /** Insert/update player's language (stored normalized). */
+    /**
+     * Gets a player's language; delegates to {@link #getLang(Player)} for online players and
+     * to {@link #getLang(UUID)} otherwise.
+     *
+     * @param player online or offline player
+     * @return normalized language code
+     */
+    public String getLang(OfflinePlayer player) {
+        return player instanceof Player online ? getLang(online) : getLang(player.getUniqueId());
+    }
+
+    /**
+     * Insert/update player's language (stored normalized).
+     * <p>
+     * Blocks until the write is persisted; see {@link #setLangAsync(Player, String)}. While the backend is
+     * still initializing the write is only queued, so enable-time callers never wait for it.
+     * </p>
+     */
     public void setLang(Player player, String langType) {
-        db.setLang(player, normalizeLang(langType));
+        CompletableFuture<Void> write = setLangAsync(player, langType);
+        if (!dbReady.isDone()) return;
+        try {
+            write.join();
+        } catch (CompletionException e) {
+            // Already logged by the backend; the session cache keeps the new value.
+        }
+    }
+
+    /**
+     * Insert/update a player's language by UUID (stored normalized), for players who may be offline.
+     * <p>
+     * Blocks until the write is persisted; see {@link #setLangAsync(UUID, String)}. While the backend is
+     * still initializing the write is only queued.
+     * </p>
+     */
+    public void setLang(UUID playerUuid, String langType) {
+        CompletableFuture<Void> write = setLangAsync(playerUuid, langType);
+        if (!dbReady.isDone()) return;
+        try {
+            write.join();
+        } catch (CompletionException e) {
+            // Already logged by the backend; the cache keeps the new value.
+        }
     }
 
-    /** Change player's language if different; returns true if updated. */
+    /**
+     * Change player's language if different; returns true if updated.
+     * <p>
+     * Blocks until the write is persisted; see {@link #changeLangAsync(Player, String)}. While the backend
+     * is still initializing the write is only queued and the answer comes from the cache: {@code true}
+     * unless it already held the new language.
+     * </p>
+     */
     public boolean changeLang(Player player, String newLangType) {
-        return db.changeLang(player, normalizeLang(newLangType));
+        CompletableFuture<Boolean> change = changeLangAsync(player, newLangType);
+        if (!change.isDone() && !dbReady.isDone()) return true;
+        try {
+            return change.join();
+        } catch (CompletionException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Insert/update player's language (stored normalized) without blocking on the database.
+     *
+     * <p>
+     * The session cache is updated immediately, so {@link #getLang(Player)} reflects the new value
+     * right away. The write is queued on the player's stripe of the write sequencer: writes for one
+     * player are applied strictly in call order, writes for different players run in parallel. If the
+     * current override is not cached, it is read on the stripe right before the write; a failed read
+     * fails the returned future.
+     * </p>
+     *
+     * <p>In client-locale mode, choosing the client's own locale removes the override instead.</p>
+     *
+     * @return future completed once the write is persisted
+     */
+    public CompletableFuture<Void> setLangAsync(Player player, String langType) {
+        String code = normalizeLang(langType);
+        UUID uuid = player.getUniqueId();
+        if (clientLocaleDefault && code.equals(clientLocale(player))) {
+            return writeOverride(uuid, player.isOnline(), null, () -> db.deleteLang(uuid)).thenApply(changed -> null);
+        }
+        return writeOverride(uuid, player.isOnline(), code, () -> {
+            db.setLang(player, code);
+            return true;
+        }).thenApply(changed -> null);
+    }
+
+    /**
+     * Insert/update a player's language by UUID without blocking on the database.
+     * Ordering and caching behave as in {@link #setLangAsync(Player, String)}; the new value goes to
+     * the session cache if the player has a session, otherwise to the offline cache.
+     *
+     * <p>
+     * In client-locale mode, choosing the player's last reported client locale removes the override
+     * instead (only possible while the player has a session).
+     * </p>
+     *
+     * @return future completed once the write is persisted
+     */
+    public CompletableFuture<Void> setLangAsync(UUID playerUuid, String langType) {
+        String code = normalizeLang(langType);
+        if (clientLocaleDefault && code.equals(sessions.getLocale(playerUuid))) {
+            return writeOverride(playerUuid, false, null, () -> db.deleteLang(playerUuid)).thenApply(changed -> null);
+        }
+        return writeOverride(playerUuid, false, code, () -> {
+            db.setLang(playerUuid, code);
+            return true;
+        }).thenApply(changed -> null);
+    }
+
+    /**
+     * Change player's language if different, without blocking on the database.
+     * Ordering and caching behave as in {@link #setLangAsync(Player, String)}.
+     *
+     * <p>In client-locale mode, changing to the client's own locale removes the override instead.</p>
+     *
+     * @return future completed with {@code true} once a change is persisted, or {@code false} if nothing changed
+     */
+    public CompletableFuture<Boolean> changeLangAsync(Player player, String newLangType) {
+        String code = normalizeLang(newLangType);
+        UUID uuid = player.getUniqueId();
+        if (clientLocaleDefault && code.equals(clientLocale(player))) {
+            return writeOverride(uuid, player.isOnline(), null, () -> db.deleteLang(uuid));
+        }
+        return writeOverride(uuid, player.isOnline(), code, () -> db.changeLang(player, code));
+    }
+
+    /**
+     * Returns the number of stored language rows per (normalized) language code.
+     * <p>Maintained incrementally; O(1) per language, no table scan.</p>
+     *
+     * @return {@code lang → row count}, sorted by language
+     */
+    public Map<String, Long> getLangDistribution() {
+        return distribution.snapshot();
+    }
+
+    /** @return {@code true} once the language distribution has been seeded from the database */
+    public boolean isLangDistributionReady() {
+        return distribution.isSeeded();
+    }
+
+    // ------------------------------
+    // Migration
+    // ------------------------------
+
+    /**
+     * Copies the {@code lang} table from one backend type to another, resuming from the last
+     * checkpoint if a previous run was interrupted. Both backends are opened for the duration
+     * of the run and closed afterwards, except the active backend ({@code database.type}), which is
+     * used as is: a second instance of a file-owning backend ({@code log}, {@code memory}) would
+     * replay, compact or snapshot the same file concurrently with it.
+     *
+     * <p>Blocking; run it off the main thread.</p>
+     *
+     * @param fromType  source {@code database.type}
+     * @param toType    target {@code database.type}
+     * @param fetchSize rows fetched per cursor round trip
+     * @param batchSize rows written per transaction
+     * @param progress  receives progress lines (may be {@code null})
+     * @return number of rows copied by this run
+     * @throws IllegalArgumentException if a type is unknown or both types are the same
+     * @throws IllegalStateException    if the run fails (it can be resumed)
+     */
+    public long migrate(String fromType, String toType, int fetchSize, int batchSize, Consumer<String> progress) {
+        String from = fromType.toLowerCase();
+        String to = toType.toLowerCase();
+        if (from.equals(to)) throw new IllegalArgumentException("Source and target database types are the same: " + from);
+
+        IMCEngineLangDB source = from.equals(dbType) ? db : createDB(plugin, from);
+        try {
+            IMCEngineLangDB target = to.equals(dbType) ? db : createDB(plugin, to);
+            try {
+                long rows = new MCEngineLangMigration(plugin, source, target, from + "-" + to,
+                        fetchSize, batchSize, progress).run();
+                if (target == db) { // rows were written behind the caches and the counters
+                    restage();
+                    seedDistribution();
+                }
+                return rows;
+            } finally {
+                if (target != db) target.close();
+            }
+        } finally {
+            if (source != db) source.close();
+        }
+    }
+
+    // ------------------------------
+    // Session cache
+    // ------------------------------
+
+    /**
+     * Loads a player's stored override from the database and stages it for their session.
+     * <p>Blocking; intended for async contexts such as {@code AsyncPlayerPreLoginEvent}.</p>
+     *
+     * @param playerUuid player's unique id
+     */
+    public void prefetchLang(UUID playerUuid) {
+        offline.remove(playerUuid);
+        MCEngineLangWarmStart carried = warm;
+        if (carried != null && warmReconciled && carried.contains(playerUuid)) {
+            sessions.put(playerUuid, carried.take(playerUuid));
+            return;
+        }
+        try {
+            String stored = readOverride(playerUuid);
+            if (!degraded()) sessions.put(playerUuid, stored);
+        } catch (MCEngineLangDBException e) {
+            // Not staged; the first lookup reads it again.
+        }
+    }
+
+    /**
+     * Records the locale reported by the player's client (e.g., from {@code PlayerLocaleChangeEvent}).
+     *
+     * @param player Bukkit player
+     * @param locale raw client locale (e.g., {@code en_us})
+     */
+    public void updateClientLocale(Player player, String locale) {
+        if (locale == null || locale.isBlank()) return;
+        sessions.putLocale(player.getUniqueId(), normalizeLang(locale));
+    }
+
+    /**
+     * Drops a player's staged language (e.g., on quit or a denied login). The known override moves
+     * to the offline cache, so lookups right after the player leaves stay query-free.
+     *
+     * @param playerUuid player's unique id
+     */
+    public void releaseLang(UUID playerUuid) {
+        if (sessions.contains(playerUuid)) offline.put(playerUuid, sessions.get(playerUuid));
+        sessions.remove(playerUuid);
+    }
+
+    /** Returns the player's normalized stored override ({@code null} if none), staging it for online players. */
+    private String storedOverride(Player player, long budgetMillis) {
+        UUID uuid = player.getUniqueId();
+        if (!player.isOnline()) return storedOverride(uuid, budgetMillis);
+        if (sessions.contains(uuid)) return sessions.get(uuid);
+
+        return readOnMiss("session", uuid, budgetMillis, stored -> sessions.put(uuid, stored),
+                () -> player.isOnline() && !sessions.contains(uuid));
+    }
+
+    /** Returns the stored override ({@code null} if none) from the session or offline cache, reading it on a miss. */
+    private String storedOverride(UUID playerUuid, long budgetMillis) {
+        if (sessions.contains(playerUuid)) return sessions.get(playerUuid);
+        if (offline.contains(playerUuid)) return offline.get(playerUuid);
+
+        return readOnMiss("offline", playerUuid, budgetMillis, stored -> offline.put(playerUuid, stored),
+                () -> !sessions.contains(playerUuid) && !offline.contains(playerUuid));
+    }
+
+    /**
+     * Reads the stored override after a cache miss within {@code budgetMillis}, recording the miss as a JFR
+     * event. A read past the budget is left running: its result is stored once it arrives, unless
+     * {@code stillMissing} says the entry was filled (or is no longer wanted) meanwhile. A failed read is
+     * logged and answered with {@code null} without caching it, so the next lookup tries again.
+     *
+     * @param cache        cache name for the JFR event
+     * @param playerUuid   player's unique id
+     * @param budgetMillis longest wait in milliseconds; {@code 0} waits for the result
+     * @param store        caches a read result
+     * @param stillMissing whether a late result should still be cached
+     * @return the stored override, or {@code null} if there is none, the read failed or the budget ran out
+     */
+    private String readOnMiss(String cache, UUID playerUuid, long budgetMillis,
+                              Consumer<String> store, BooleanSupplier stillMissing) {
+        MCEngineLangCacheMissEvent event = new MCEngineLangCacheMissEvent();
+        event.begin();
+        CompletableFuture<String> read = pendingReads.computeIfAbsent(playerUuid, this::readOverrideAsync);
+        read.whenComplete((stored, error) -> pendingReads.remove(playerUuid, read));
+        String stored;
+        try {
+            stored = budgetMillis > 0L ? read.get(budgetMillis, TimeUnit.MILLISECONDS) : read.get();
+            if (!degraded()) store.accept(stored);
+        } catch (TimeoutException | InterruptedException e) {
+            if (e instanceof InterruptedException) Thread.currentThread().interrupt();
+            else lookupTimeouts.incrementAndGet();
+            read.thenAccept(late -> {
+                if (stillMissing.getAsBoolean() && !degraded()) store.accept(late);
+            });
+            stored = null;
+        } catch (ExecutionException e) {
+            plugin.getLogger().warning("Lang lookup for " + playerUuid + " failed; using the default language: "
+                    + e.getCause());
+            stored = null;
+        } finally {
+            event.end();
+        }
+        if (event.shouldCommit()) {
+            event.cache = cache;
+            event.key = playerUuid.toString();
+            event.commit();
+        }
+        return stored;
+    }
+
+    /** Whether lookups are answered from the circuit breaker's last known values instead of the database. */
+    private boolean degraded() {
+        return breaker != null && breaker.isOpen();
+    }
+
+    /**
+     * Reads the stored override behind any queued writes for the player, so it never sees stale data.
+     *
+     * @throws MCEngineLangDBException if the backend cannot answer
+     */
+    private String readOverride(UUID playerUuid) {
+        try {
+            return readOverrideAsync(playerUuid).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof MCEngineLangDBException failure) throw failure;
+            throw e;
+        }
+    }
+
+    /** Queues a read of the stored override behind the player's writes. */
+    private CompletableFuture<String> readOverrideAsync(UUID playerUuid) {
+        return writes.submit(playerUuid, () -> normalizeOverride(db.findLang(playerUuid)));
+    }
+
+    /**
+     * Caches a new override ({@code null} to remove it) and queues its write on the player's stripe. The
+     * replaced override comes from the caches, or is read on the stripe right before the write when it is
+     * not cached, so the caller never blocks on the database; nothing is written if it already matches.
+     * A successful write that changed something is recorded in the language distribution.
+     *
+     * @param write performs the write; returns {@code false} if the backend changed nothing
+     * @return future completed with {@code true} once a change is persisted, {@code false} if nothing
+     *         changed, or failed with the read or write error
+     */
+    private CompletableFuture<Boolean> writeOverride(UUID uuid, boolean online, String override, Supplier<Boolean> write) {
+        boolean cached = sessions.contains(uuid) || offline.contains(uuid);
+        String known = sessions.contains(uuid) ? sessions.get(uuid) : offline.get(uuid);
+        if (cached && Objects.equals(known, override)) return CompletableFuture.completedFuture(false);
+
+        cacheOverride(uuid, online, override);
+        return published(uuid, override, writes.submit(uuid, () -> {
+            String old = cached ? known : normalizeOverride(db.findLang(uuid));
+            if (Objects.equals(old, override)) return false;
+            boolean changed = write.get();
+            if (changed) distribution.move(old, override);
+            return changed;
+        }));
+    }
+
+    /** Publishes a change to other servers once its write succeeded (and, for boolean writes, changed something). */
+    private <T> CompletableFuture<T> published(UUID uuid, String override, CompletableFuture<T> write) {
+        if (invalidation == null) return write;
+        return write.whenComplete((result, error) -> {
+            if (error == null && !Boolean.FALSE.equals(result)) invalidation.publish(uuid, override);
+        });
+    }
+
+    /**
+     * Applies a change made on another server: a staged session takes the new value, an offline entry
+     * is dropped, and a tiered backend's local copy is invalidated behind any queued local writes.
+     */
+    private void applyRemoteChange(UUID uuid, String override) {
+        if (sessions.contains(uuid)) sessions.put(uuid, override);
+        offline.remove(uuid);
+        MCEngineLangWarmStart carried = warm;
+        if (carried != null) carried.remove(uuid);
+
+        MCEngineLangTiered tiered = tiered();
+        if (tiered != null) writes.submit(uuid, () -> {
+            tiered.invalidate(uuid);
+            return null;
+        });
+    }
+
+    /** Finds the tiered backend behind the wrappers, or {@code null} if another backend (or none yet) is in use. */
+    private MCEngineLangTiered tiered() {
+        IMCEngineLangDB current = db;
+        while (true) {
+            if (current instanceof MCEngineLangTiered tiered) return tiered;
+            if (current instanceof MCEngineLangCircuitBreaker breaker) current = breaker.getDelegate();
+            else if (current instanceof MCEngineLangDeferredDB deferred) current = deferred.isReady() ? deferred.getReady().join() : null;
+            else if (current instanceof MCEngineLangRecordingDB recording) current = recording.getDelegate();
+            else return null;
+        }
+    }
+
+    /**
+     * Re-reads the overrides of staged players and drops offline entries, after a period in which lookups
+     * may have been answered with defaults or rows changed behind the caches (backend initialization,
+     * circuit-breaker recovery, migration into the live backend).
+     */
+    private void restage() {
+        offline.clear();
+        plugin.getServer().getScheduler().runTask(plugin, () -> {
+            List<UUID> online = plugin.getServer().getOnlinePlayers().stream().map(Player::getUniqueId).toList();
+            if (online.isEmpty()) return;
+            plugin.getServer().getScheduler().runTaskAsynchronously(plugin, () -> online.forEach(uuid -> {
+                try {
+                    if (sessions.contains(uuid)) sessions.put(uuid, readOverride(uuid));
+                } catch (MCEngineLangDBException e) {
+                    // Keep the staged value.
+                }
+            }));
+        });
+    }
+
+    // ------------------------------
+    // Warm start
+    // ------------------------------
+
+    /**
+     * Records this run's row-version watermark from a freshly created backend, before any lookup can
+     * read through it, so every entry cached by this run was read after that point.
+     *
+     * @return the backend, unchanged
+     */
+    private IMCEngineLangDB takeWatermark(IMCEngineLangDB backend, boolean enabled) {
+        if (!enabled) return backend;
+        Long current = backend.getValue("SELECT COALESCE(MAX(updated_at), 0) FROM lang", Long.class);
+        if (current == null) {
+            plugin.getLogger().warning("Lang warm start unavailable: the database backend has no row versions.");
+        } else {
+            watermark = current;
+        }
+        return backend;
+    }
+
+    /**
+     * Loads the previous snapshot and corrects the entries whose rows changed since it was taken. Deletes
+     * leave no row version, so overrides whose rows were not seen by that query are checked for existence
+     * as well. Blocking; runs off the main thread once the backend is ready.
+     */
+    private void warmStart() {
+        if (watermark < 0) return; // no row versions; already logged
+
+        MCEngineLangWarmStart loaded;
+        try {
+            loaded = MCEngineLangWarmStart.load(warmStartFile);
+        } catch (IOException e) {
+            plugin.getLogger().warning("Lang warm-start snapshot could not be read: " + e.getMessage());
+            return;
+        }
+        if (loaded == null) return;
+        long maxAgeMillis = plugin.getConfig().getLong("lang.warm-start.max-age", 86_400L) * 1000L;
+        if (System.currentTimeMillis() - loaded.getSavedAt() > maxAgeMillis) {
+            plugin.getLogger().info("Lang warm-start snapshot is too old; starting cold.");
+            return;
+        }
+
+        warm = loaded; // published before reconciling so local changes already drop their entries
+        Set<UUID> seen = new HashSet<>();
+        long changed = db.forEachRow("SELECT player_uuid, lang FROM lang WHERE updated_at >= ?", 1000,
+                rs -> Map.entry(rs.getString(1), rs.getString(2)),
+                row -> {
+                    UUID uuid = UUID.fromString(row.getKey());
+                    seen.add(uuid);
+                    loaded.update(uuid, normalizeOverride(row.getValue()));
+                },
+                loaded.getWatermark());
+        long deleted = changed < 0 ? -1L : reconcileDeletes(loaded, seen);
+        if (changed < 0 || deleted < 0) {
+            warm = null;
+            plugin.getLogger().warning("Lang warm-start snapshot could not be reconciled; starting cold.");
+            return;
+        }
+        warmReconciled = true;
+        plugin.getLogger().info("Lang warm start: " + loaded.size() + " players from snapshot, "
+                + changed + " rows changed and " + deleted + " deleted since.");
+
+        long windowTicks = Math.max(1L, plugin.getConfig().getLong("lang.warm-start.window", 300L)) * 20L;
+        plugin.getServer().getScheduler().runTaskLaterAsynchronously(plugin, () -> {
+            if (warm == loaded) warm = null;
+        }, windowTicks);
+    }
+
+    /**
+     * Marks snapshot overrides whose rows no longer exist as "no override", checking the players not already
+     * seen by the row-version query in batches of {@code IN (...)} lookups.
+     *
+     * @return number of overrides found deleted, or {@code -1} if a lookup failed
+     */
+    private long reconcileDeletes(MCEngineLangWarmStart loaded, Set<UUID> seen) {
+        List<UUID> unverified = new ArrayList<>();
+        loaded.forEachOverride((uuid, lang) -> {
+            if (lang != null && !seen.contains(uuid)) unverified.add(uuid);
+        });
+
+        long deleted = 0;
+        for (int from = 0; from < unverified.size(); from += WARM_CHECK_BATCH) {
+            List<UUID> chunk = unverified.subList(from, Math.min(from + WARM_CHECK_BATCH, unverified.size()));
+            Set<String> present = new HashSet<>();
+            String sql = "SELECT player_uuid FROM lang WHERE player_uuid IN ("
+                    + String.join(", ", Collections.nCopies(chunk.size(), "?")) + ")";
+            long rows = db.forEachRow(sql, chunk.size(), rs -> rs.getString(1), present::add,
+                    chunk.stream().map(UUID::toString).toArray());
+            if (rows < 0) return -1L;
+            for (UUID uuid : chunk) {
+                if (!present.contains(uuid.toString())) {
+                    loaded.update(uuid, null);
+                    deleted++;
+                }
+            }
+        }
+        return deleted;
+    }
+
+    /** Writes the known overrides to the warm-start snapshot. Called from {@link #shutdown()} after writes are flushed. */
+    private void saveWarmStart() {
+        if (warmStartFile == null || watermark < 0) return;
+        int maxEntries = Math.max(0, plugin.getConfig().getInt("lang.warm-start.max-entries", 50_000));
+        Map<UUID, String> overrides = new LinkedHashMap<>();
+        BiConsumer<UUID, String> collect = (uuid, lang) -> {
+            if (overrides.size() < maxEntries && !overrides.containsKey(uuid)) overrides.put(uuid, lang);
+        };
+        sessions.forEachOverride(collect);
+        offline.forEachOverride(collect);
+        MCEngineLangWarmStart carried = warm;
+        if (carried != null && warmReconciled) carried.forEachOverride(collect);
+
+        try {
+            MCEngineLangWarmStart.save(warmStartFile, watermark, overrides);
+        } catch (IOException e) {
+            plugin.getLogger().warning("Lang warm-start snapshot could not be written: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Seeds the language distribution from a full count. The count runs exclusively on the write
+     * sequencer, so no write commits between the scan and the seed; a failed count leaves the
+     * distribution unseeded.
+     */
+    private void seedDistribution() {
+        writes.submitExclusive(() -> {
+            Map<String, Long> raw = db.countLangs();
+            if (raw == null) {
+                plugin.getLogger().warning("Lang distribution could not be seeded; /lang stats stays unavailable.");
+                return null;
+            }
+            Map<String, Long> normalized = new HashMap<>();
+            raw.forEach((lang, count) -> normalized.merge(normalizeLang(lang), count, Long::sum));
+            distribution.seed(normalized);
+            return null;
+        });
+    }
+
+    /** Picks the override if present; otherwise the configured default for the player. */
+    private String resolveLang(Player player, String override) {
+        if (override != null) return override;
+        return clientLocaleDefault ? clientLocale(player) : DEFAULT_LANG;
+    }
+
+    /** Returns the player's normalized client locale, preferring the last reported value. */
+    private String clientLocale(Player player) {
+        String locale = sessions.getLocale(player.getUniqueId());
+        return locale != null ? locale : normalizeLang(player.getLocale());
+    }
+
+    /** Stages the override in the session cache for players with a session, otherwise in the offline cache. */
+    private void cacheOverride(UUID uuid, boolean online, String override) {
+        MCEngineLangWarmStart carried = warm;
+        if (carried != null) carried.remove(uuid);
+        if (online || sessions.contains(uuid)) {
+            sessions.put(uuid, override);
+        } else {
+            offline.put(uuid, override);
+        }
     }
 
     // ------------------------------
@@ -129,30 +1069,126 @@ public final class MCEngineLangCommon {
      * @return localized value if found; otherwise {@code null}
      */
     public String getLangTextFromYml(Plugin plugin, Player player, String variableName) {
-        String code = getLang(player); // already normalized
-        File langFile = resolveLangFile(plugin, code);
+        return text(plugin, getLang(player), variableName); // already normalized
+    }
+
+    /**
+     * Resolve a localized text like {@link #getLangTextFromYml(Plugin, Player, String)} and replace its
+     * {@code {name}} placeholders, e.g. {@code formatLangText(plugin, player, "board.kills", "kills", 12)}.
+     *
+     * <p>
+     * With {@code lang.render-cache.enabled: true}, results are memoized per (key, language, arguments)
+     * in a {@link MCEngineLangRenderCache} of {@code lang.render-cache.size} entries (default: {@code 512}),
+     * so repeated renders return the same instance without formatting. The cache is invalidated when the
+     * plugin's bundles are reloaded. Arguments should be immutable values (strings, numbers).
+     * </p>
+     *
+     * @param plugin       the plugin owning the language files (data folder root)
+     * @param player       the player whose language should be used
+     * @param variableName YAML path/key of the template
+     * @param placeholders alternating placeholder names and values
+     * @return rendered text if the key was found; otherwise {@code null}
+     */
+    public String formatLangText(Plugin plugin, Player player, String variableName, Object... placeholders) {
+        String code = getLang(player);
+        if (renderCache == null) return MCEngineLangFormatter.format(text(plugin, code, variableName), placeholders);
+        return renderCache.get(plugin.getName(), variableName, code, placeholders, () -> {
+            MCEngineLangCacheMissEvent event = new MCEngineLangCacheMissEvent();
+            event.begin();
+            String rendered = MCEngineLangFormatter.format(text(plugin, code, variableName), placeholders);
+            event.end();
+            if (event.shouldCommit()) {
+                event.cache = "render";
+                event.key = variableName;
+                event.commit();
+            }
+            return rendered;
+        });
+    }
 
-        FileConfiguration cfg = YamlConfiguration.loadConfiguration(langFile);
-        String value = cfg.getString(variableName);
+    /** @return the render cache, or {@code null} if {@code lang.render-cache.enabled} is off */
+    public MCEngineLangRenderCache getRenderCache() {
+        return renderCache;
+    }
 
-        if (value == null && !DEFAULT_LANG.equals(code)) {
-            File defFile = resolveLangFile(plugin, DEFAULT_LANG);
-            FileConfiguration defCfg = YamlConfiguration.loadConfiguration(defFile);
-            value = defCfg.getString(variableName);
-        }
+    /**
+     * Resolves a YAML key into a handle once (e.g., at plugin init) for use with
+     * {@link #getLangTextFromYml(Plugin, Player, MCEngineLangKey)}. Handles stay valid across
+     * bundle reloads.
+     *
+     * @param variableName YAML path/key (e.g., {@code ui.menu.title})
+     * @return stable key handle
+     */
+    public MCEngineLangKey resolveKey(String variableName) {
+        return bundles.key(variableName);
+    }
 
-        return value;
+    /**
+     * Resolve a localized text by key handle. Same result as the {@code String} overload, but the
+     * lookup is an index into a per-locale table with the {@code en-us} fallback already applied.
+     *
+     * @param plugin the plugin owning the language files (data folder root)
+     * @param player the player whose language should be used
+     * @param key    handle from {@link #resolveKey(String)}
+     * @return localized value if found; otherwise {@code null}
+     */
+    public String getLangTextFromYml(Plugin plugin, Player player, MCEngineLangKey key) {
+        return bundles.get(plugin, getLang(player), key);
     }
 
     /**
-     * Builds a {@link File} pointing to the bundle for a language code.
-     * Falls back to default when missing.
+     * Resolve a localized list (e.g., multi-line item lore) from the player's language bundle,
+     * falling back to {@code en-us} when the locale lacks it.
+     *
+     * @param plugin       the plugin owning the language files (data folder root)
+     * @param player       the player whose language should be used
+     * @param variableName YAML path/key of the list (e.g., {@code ui.menu.lore})
+     * @return immutable cached list; empty if not found
      */
-    private File resolveLangFile(Plugin plugin, String code) {
-        File baseDir = plugin.getDataFolder();
-        File file = new File(new File(baseDir, LANG_DIR_NAME), code + YAML_EXTENSION);
-        if (file.isFile()) return file;
-        return new File(new File(baseDir, LANG_DIR_NAME), DEFAULT_LANG + YAML_EXTENSION);
+    public List<String> getLangListFromYml(Plugin plugin, Player player, String variableName) {
+        return bundles.getStringList(plugin, getLang(player), variableName);
+    }
+
+    /**
+     * Resolve a localized section (e.g., a set of GUI items with names and lore) from the player's
+     * language bundle. Keys missing in the locale are taken from {@code en-us}.
+     *
+     * @param plugin       the plugin owning the language files (data folder root)
+     * @param player       the player whose language should be used
+     * @param variableName YAML path/key of the section (e.g., {@code menu.items})
+     * @return immutable cached section if found; otherwise {@code null}
+     */
+    public MCEngineLangSection getLangSectionFromYml(Plugin plugin, Player player, String variableName) {
+        return bundles.getSection(plugin, getLang(player), variableName);
+    }
+
+    /**
+     * Parses every {@code lang/*.yml}, {@code lang/*.json} and {@code lang/*.properties} bundle of a
+     * plugin in parallel, off the main thread, and activates them for {@code getLangTextFromYml}.
+     * Also used to reload bundles after edits. Bundles that are not loaded this way are parsed on
+     * first use.
+     *
+     * @param plugin plugin owning the language files
+     * @return future completed with {@code file name → parse time (ms)} once the bundles are active
+     */
+    public CompletableFuture<Map<String, Double>> loadLangBundles(Plugin plugin) {
+        CompletableFuture<Map<String, Double>> loading = bundles.loadAll(plugin);
+        if (renderCache == null) return loading;
+        return loading.thenApply(timings -> {
+            renderCache.invalidate(plugin.getName());
+            return timings;
+        });
+    }
+
+    /** Looks a key up in a language's bundle, falling back to the default bundle. */
+    private String text(Plugin plugin, String code, String variableName) {
+        String value = bundles.get(plugin, code).getString(variableName);
+
+        if (value == null && !DEFAULT_LANG.equals(code)) {
+            value = bundles.get(plugin, DEFAULT_LANG).getString(variableName);
+        }
+
+        return value;
     }
 
     /**
@@ -170,4 +1206,10 @@ public final class MCEngineLangCommon {
         if (input == null || input.isBlank()) return DEFAULT_LANG;
         return input.toLowerCase().replace('_', '-');
     }
+
+    /** Normalizes a stored override, keeping {@code null} for "no row". */
+    private static String normalizeOverride(String input) {
+        if (input == null || input.isBlank()) return null;
+        return normalizeLang(input);
+    }
 }
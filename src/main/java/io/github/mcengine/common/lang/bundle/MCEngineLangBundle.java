@@ -0,0 +1,181 @@
+package io.github.mcengine.common.lang.bundle;
+
+import io.github.mcengine.common.lang.jfr.MCEngineLangBundleLoadEvent;
+import org.bukkit.configuration.file.FileConfiguration;
+import org.bukkit.configuration.file.YamlConfiguration;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * One parsed language bundle ({@code lang/{code}.yml}, {@code .json} or {@code .properties})
+ * flattened into a lookup table.
+ *
+ * <p>
+ * Every leaf value is stored under its full dotted path (e.g., {@code ui.menu.title}), so a lookup
+ * is a single hash probe instead of a YAML path split and section walk. List values are converted
+ * once into immutable {@code List<String>}s, and sections requested via {@link #getSection(String)}
+ * are built once and cached, so repeated lookups allocate nothing. Instances are immutable and safe
+ * to share between threads.
+ * </p>
+ */
+public final class MCEngineLangBundle {
+
+    /** Normalized language code of this bundle. */
+    private final String code;
+
+    /** File the bundle was parsed from. */
+    private final File source;
+
+    /** Leaf values keyed by full dotted path, in file order; lists are immutable {@code List<String>}. */
+    private final Map<String, Object> values;
+
+    /** Sections built so far, keyed by dotted path; {@link MCEngineLangSection#EMPTY} marks a miss. */
+    private final Map<String, MCEngineLangSection> sections = new ConcurrentHashMap<>();
+
+    /** Time spent reading and flattening the file, in nanoseconds. */
+    private final long loadNanos;
+
+    /** Why a {@code .json}/{@code .properties} file could not be parsed; {@code null} on success. */
+    private final String failure;
+
+    private MCEngineLangBundle(String code, File source, Map<String, Object> values, long loadNanos, String failure) {
+        this.code = code;
+        this.source = source;
+        this.values = values;
+        this.loadNanos = loadNanos;
+        this.failure = failure;
+    }
+
+    /**
+     * Parses a bundle, choosing the parser by file extension: {@code .json} and {@code .properties}
+     * are streamed straight into the lookup table, anything else is read as YAML. A missing or
+     * unreadable file yields an empty bundle (see {@link #getFailure()}).
+     *
+     * @param code normalized language code
+     * @param file bundle file to parse
+     * @return parsed bundle
+     */
+    public static MCEngineLangBundle load(String code, File file) {
+        MCEngineLangBundleLoadEvent event = new MCEngineLangBundleLoadEvent();
+        event.begin();
+        long started = System.nanoTime();
+        Map<String, Object> values = new LinkedHashMap<>();
+        String failure = null;
+        String name = file.getName().toLowerCase();
+        try {
+            if (name.endsWith(".json")) {
+                MCEngineLangJsonParser.parse(file, values);
+            } else if (name.endsWith(".properties")) {
+                MCEngineLangPropertiesParser.parse(file, values);
+            } else {
+                loadYaml(file, values);
+            }
+        } catch (IOException | RuntimeException e) {
+            values.clear();
+            failure = e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName();
+        }
+        long elapsed = System.nanoTime() - started;
+        event.end();
+        if (event.shouldCommit()) {
+            event.code = code;
+            event.file = file.getPath();
+            event.keys = values.size();
+            event.commit();
+        }
+        return new MCEngineLangBundle(code, file, Collections.unmodifiableMap(values), elapsed, failure);
+    }
+
+    /** Flattens a YAML bundle read through Bukkit's {@link YamlConfiguration}. */
+    private static void loadYaml(File file, Map<String, Object> values) {
+        FileConfiguration cfg = YamlConfiguration.loadConfiguration(file);
+        for (String key : cfg.getKeys(true)) {
+            if (cfg.isConfigurationSection(key)) continue;
+            Object value = cfg.get(key);
+            if (value instanceof List<?> list) value = toStringList(list);
+            if (value != null) values.put(key, value);
+        }
+    }
+
+    /**
+     * Returns the value at a dotted path as a string, like {@code FileConfiguration#getString}.
+     *
+     * @param key dotted path (e.g., {@code ui.menu.title})
+     * @return value, or {@code null} if absent
+     */
+    public String getString(String key) {
+        Object value = values.get(key);
+        if (value == null) return null;
+        return value instanceof String s ? s : value.toString();
+    }
+
+    /**
+     * Returns the list at a dotted path, like {@code FileConfiguration#getStringList}.
+     *
+     * @param key dotted path (e.g., {@code ui.menu.lore})
+     * @return immutable cached list, or {@code null} if the path is absent or not a list
+     */
+    @SuppressWarnings("unchecked")
+    public List<String> getStringList(String key) {
+        Object value = values.get(key);
+        return value instanceof List<?> ? (List<String>) value : null;
+    }
+
+    /**
+     * Returns the section at a dotted path, built on first request and cached.
+     *
+     * @param key dotted path of the section (e.g., {@code menu.items})
+     * @return immutable section, or {@code null} if no leaf exists below the path
+     */
+    public MCEngineLangSection getSection(String key) {
+        MCEngineLangSection section = sections.computeIfAbsent(key, k -> {
+            String prefix = k + ".";
+            Map<String, Object> children = new LinkedHashMap<>();
+            for (Map.Entry<String, Object> e : values.entrySet()) {
+                if (e.getKey().startsWith(prefix)) children.put(e.getKey().substring(prefix.length()), e.getValue());
+            }
+            return children.isEmpty() ? MCEngineLangSection.EMPTY : new MCEngineLangSection(k, children);
+        });
+        return section == MCEngineLangSection.EMPTY ? null : section;
+    }
+
+    /** @return normalized language code */
+    public String getCode() {
+        return code;
+    }
+
+    /** @return file the bundle was parsed from */
+    public File getSource() {
+        return source;
+    }
+
+    /** @return number of leaf values */
+    public int size() {
+        return values.size();
+    }
+
+    /** @return why the file could not be parsed, or {@code null} if it was (YAML errors are logged by Bukkit) */
+    public String getFailure() {
+        return failure;
+    }
+
+    /** @return time spent parsing the file, in milliseconds */
+    public double getLoadMillis() {
+        return loadNanos / 1_000_000.0;
+    }
+
+    /** Converts a YAML list to an immutable list of strings, skipping {@code null} elements. */
+    private static List<String> toStringList(List<?> list) {
+        List<String> out = new ArrayList<>(list.size());
+        for (Object element : list) {
+            if (element != null) out.add(element.toString());
+        }
+        return List.copyOf(out);
+    }
+}
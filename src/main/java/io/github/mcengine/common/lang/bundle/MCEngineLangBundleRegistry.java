@@ -0,0 +1,327 @@
+package io.github.mcengine.common.lang.bundle;
+
+import org.bukkit.plugin.Plugin;
+
+import java.io.File;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * Parsed language bundles per plugin, loaded from {@code {pluginDataFolder}/lang/{code}.yml},
+ * {@code .json} or {@code .properties}.
+ *
+ * <p>
+ * {@link #loadAll(Plugin)} parses every bundle of a plugin in parallel on a fork/join pool, off the
+ * main thread, and swaps the finished set in atomically; startup time therefore scales with the largest
+ * bundle rather than the sum of all of them. Parse time is recorded per file. Bundles that were not
+ * loaded eagerly are parsed on first use by {@link #get(Plugin, String)} and cached.
+ * </p>
+ *
+ * <p>
+ * Hot callers can resolve a key once with {@link #key(String)} and look it up with
+ * {@link #get(Plugin, String, MCEngineLangKey)}. Each locale then gets a dense table indexed by
+ * handle, with the default-language fallback already applied, built on first use and rebuilt after a
+ * reload or when new keys are registered. Lists and sections ({@link #getStringList},
+ * {@link #getSection}) follow the same fallback rules and are cached per locale.
+ * </p>
+ *
+ * <p>
+ * Language codes are normalized file names (lower case, underscores → hyphens). All formats share the
+ * same dotted key paths and fallback rules; if one code exists in several formats, the first of
+ * {@link #EXTENSIONS} wins and the others are ignored with a warning.
+ * </p>
+ */
+public final class MCEngineLangBundleRegistry {
+
+    /** Name of the language directory under a plugin's data folder. */
+    private static final String LANG_DIR_NAME = "lang";
+
+    /** Supported bundle file extensions, in order of precedence. */
+    public static final List<String> EXTENSIONS = List.of(".yml", ".json", ".properties");
+
+    /** Code whose bundle is used when a requested bundle is missing. */
+    private final String defaultLang;
+
+    /** Pool that parses bundles. */
+    private final ForkJoinPool pool;
+
+    /** Active bundle set per plugin name; replaced as a whole on reload. */
+    private final Map<String, Loaded> byPlugin = new ConcurrentHashMap<>();
+
+    /** Registered key handles by dotted path. */
+    private final Map<String, MCEngineLangKey> keysByPath = new ConcurrentHashMap<>();
+
+    /** Registered key handles by index; guarded by {@code this}. */
+    private final List<MCEngineLangKey> keys = new ArrayList<>();
+
+    /**
+     * @param defaultLang normalized fallback code (e.g., {@code en-us})
+     * @param parallelism worker threads used for parsing
+     */
+    public MCEngineLangBundleRegistry(String defaultLang, int parallelism) {
+        this.defaultLang = defaultLang;
+        this.pool = new ForkJoinPool(Math.max(1, parallelism));
+    }
+
+    /**
+     * Parses every bundle of a plugin in parallel and replaces its cached set when done.
+     *
+     * @param plugin plugin owning the {@code lang} directory
+     * @return future completed with {@code file name → parse time (ms)} once the new set is active
+     */
+    public CompletableFuture<Map<String, Double>> loadAll(Plugin plugin) {
+        File[] files = new File(plugin.getDataFolder(), LANG_DIR_NAME)
+                .listFiles((dir, name) -> isBundleFile(name));
+        final Collection<File> bundleFiles = pickByPrecedence(plugin, files == null ? new File[0] : files);
+
+        return CompletableFuture.supplyAsync(() -> {
+            long started = System.nanoTime();
+            List<ForkJoinTask<MCEngineLangBundle>> tasks = new ArrayList<>(bundleFiles.size());
+            for (File file : bundleFiles) {
+                tasks.add(ForkJoinTask.adapt(() -> MCEngineLangBundle.load(codeOf(file.getName()), file)));
+            }
+            ForkJoinTask.invokeAll(tasks);
+
+            Loaded loaded = new Loaded();
+            Map<String, Double> timings = new LinkedHashMap<>();
+            MCEngineLangBundle slowest = null;
+            for (ForkJoinTask<MCEngineLangBundle> task : tasks) {
+                MCEngineLangBundle bundle = task.join();
+                if (bundle.getFailure() != null) {
+                    plugin.getLogger().warning("Lang bundle " + bundle.getSource().getName()
+                            + " could not be parsed: " + bundle.getFailure());
+                }
+                loaded.bundles.put(bundle.getCode(), bundle);
+                timings.put(bundle.getSource().getName(), bundle.getLoadMillis());
+                if (slowest == null || bundle.getLoadMillis() > slowest.getLoadMillis()) slowest = bundle;
+                plugin.getLogger().fine("Lang bundle " + bundle.getSource().getName() + ": "
+                        + bundle.size() + " keys in " + String.format("%.1f", bundle.getLoadMillis()) + "ms");
+            }
+            byPlugin.put(plugin.getName(), loaded);
+
+            plugin.getLogger().info("Loaded " + loaded.bundles.size() + " lang bundles in "
+                    + String.format("%.1f", (System.nanoTime() - started) / 1_000_000.0) + "ms"
+                    + (slowest == null ? "" : " (slowest: " + slowest.getSource().getName() + ", "
+                    + String.format("%.1f", slowest.getLoadMillis()) + "ms)"));
+            return timings;
+        }, pool);
+    }
+
+    /**
+     * Returns the bundle for a language code, falling back to the default bundle when the file is
+     * missing. Parses and caches the bundle if it was not loaded yet.
+     *
+     * @param plugin plugin owning the {@code lang} directory
+     * @param code   normalized language code
+     * @return bundle (possibly empty if neither the file nor the default exists)
+     */
+    public MCEngineLangBundle get(Plugin plugin, String code) {
+        return get(plugin, loadedOf(plugin), code);
+    }
+
+    /**
+     * Returns the handle for a dotted key path, registering it on first use. Calling this again with
+     * the same path returns the same handle.
+     *
+     * @param path dotted path (e.g., {@code ui.menu.title})
+     * @return stable handle
+     */
+    public MCEngineLangKey key(String path) {
+        MCEngineLangKey key = keysByPath.get(path);
+        if (key != null) return key;
+        synchronized (this) {
+            return keysByPath.computeIfAbsent(path, p -> {
+                MCEngineLangKey created = new MCEngineLangKey(keys.size(), p);
+                keys.add(created);
+                return created;
+            });
+        }
+    }
+
+    /**
+     * Looks a value up by handle, falling back to the default language when the locale lacks it.
+     *
+     * @param plugin plugin owning the {@code lang} directory
+     * @param code   normalized language code
+     * @param key    handle from {@link #key(String)}
+     * @return value, or {@code null} if neither the locale nor the default defines it
+     */
+    public String get(Plugin plugin, String code, MCEngineLangKey key) {
+        Loaded loaded = loadedOf(plugin);
+        String[] table = loaded.tables.get(code);
+        if (table == null || key.getIndex() >= table.length) {
+            table = buildTable(plugin, loaded, code);
+            loaded.tables.put(code, table);
+        }
+        return table[key.getIndex()];
+    }
+
+    /**
+     * Drops every cached bundle of a plugin; they are parsed again on next use.
+     *
+     * @param plugin plugin owning the bundles
+     */
+    public void invalidate(Plugin plugin) {
+        byPlugin.remove(plugin.getName());
+    }
+
+    /** Stops the parsing pool. */
+    public void shutdown() {
+        pool.shutdown();
+    }
+
+    /**
+     * Looks a list up, falling back to the default language when the locale lacks it.
+     *
+     * @param plugin plugin owning the {@code lang} directory
+     * @param code   normalized language code
+     * @param path   dotted path (e.g., {@code ui.menu.lore})
+     * @return immutable cached list, or an empty list if neither the locale nor the default defines it
+     */
+    public List<String> getStringList(Plugin plugin, String code, String path) {
+        Loaded loaded = loadedOf(plugin);
+        List<String> list = get(plugin, loaded, code).getStringList(path);
+        if (list == null && !defaultLang.equals(code)) list = get(plugin, loaded, defaultLang).getStringList(path);
+        return list != null ? list : List.of();
+    }
+
+    /**
+     * Looks a section up with per-key fallback to the default language. The merged section is cached
+     * until the next reload.
+     *
+     * @param plugin plugin owning the {@code lang} directory
+     * @param code   normalized language code
+     * @param path   dotted path of the section (e.g., {@code menu.items})
+     * @return immutable section, or {@code null} if neither the locale nor the default defines it
+     */
+    public MCEngineLangSection getSection(Plugin plugin, String code, String path) {
+        Loaded loaded = loadedOf(plugin);
+        Map<String, MCEngineLangSection> cached = loaded.sections.computeIfAbsent(code, c -> new ConcurrentHashMap<>());
+        MCEngineLangSection section = cached.computeIfAbsent(path, p -> {
+            MCEngineLangSection own = get(plugin, loaded, code).getSection(p);
+            MCEngineLangSection fallback = defaultLang.equals(code) ? null : get(plugin, loaded, defaultLang).getSection(p);
+            if (own == null) return fallback != null ? fallback : MCEngineLangSection.EMPTY;
+            return own.withFallback(fallback);
+        });
+        return section == MCEngineLangSection.EMPTY ? null : section;
+    }
+
+    /** Returns the active bundle set of a plugin, creating an empty one if none was loaded. */
+    private Loaded loadedOf(Plugin plugin) {
+        return byPlugin.computeIfAbsent(plugin.getName(), k -> new Loaded());
+    }
+
+    /** Returns a bundle from a set, parsing it on first use and falling back to the default bundle. */
+    private MCEngineLangBundle get(Plugin plugin, Loaded loaded, String code) {
+        MCEngineLangBundle bundle = loaded.bundles.get(code);
+        if (bundle != null) return bundle;
+
+        File langDir = new File(plugin.getDataFolder(), LANG_DIR_NAME);
+        File file = null;
+        for (String extension : EXTENSIONS) {
+            File candidate = new File(langDir, code + extension);
+            if (candidate.isFile()) {
+                file = candidate;
+                break;
+            }
+        }
+        if (file == null && !code.equals(defaultLang)) {
+            // Cached under the requested code so the directory is probed once per set; a reload drops it.
+            MCEngineLangBundle fallback = get(plugin, loaded, defaultLang);
+            MCEngineLangBundle raced = loaded.bundles.putIfAbsent(code, fallback);
+            return raced != null ? raced : fallback;
+        }
+        final File source = file != null ? file : new File(langDir, code + EXTENSIONS.get(0));
+        return loaded.bundles.computeIfAbsent(code, c -> {
+            MCEngineLangBundle parsed = MCEngineLangBundle.load(c, source);
+            if (parsed.getFailure() != null) {
+                plugin.getLogger().warning("Lang bundle " + source.getName() + " could not be parsed: " + parsed.getFailure());
+            }
+            return parsed;
+        });
+    }
+
+    /** Keeps one file per language code, by {@link #EXTENSIONS} precedence, warning about the rest. */
+    private static Collection<File> pickByPrecedence(Plugin plugin, File[] files) {
+        Map<String, File> byCode = new TreeMap<>();
+        for (File file : files) {
+            String code = codeOf(file.getName());
+            File current = byCode.get(code);
+            File ignored = file;
+            if (current == null || precedenceOf(file.getName()) < precedenceOf(current.getName())) {
+                byCode.put(code, file);
+                ignored = current;
+            }
+            if (ignored != null) {
+                plugin.getLogger().warning("Lang bundle " + ignored.getName() + " ignored; another format exists for '" + code + "'.");
+            }
+        }
+        return byCode.values();
+    }
+
+    /** Index of a file name's extension in {@link #EXTENSIONS}, or {@code -1}. */
+    private static int precedenceOf(String fileName) {
+        String lower = fileName.toLowerCase();
+        for (int i = 0; i < EXTENSIONS.size(); i++) {
+            if (lower.endsWith(EXTENSIONS.get(i))) return i;
+        }
+        return -1;
+    }
+
+    /** Resolves every registered key for a locale, with the default-language fallback applied. */
+    private String[] buildTable(Plugin plugin, Loaded loaded, String code) {
+        MCEngineLangKey[] snapshot;
+        synchronized (this) {
+            snapshot = keys.toArray(new MCEngineLangKey[0]);
+        }
+        MCEngineLangBundle bundle = get(plugin, loaded, code);
+        MCEngineLangBundle fallback = defaultLang.equals(code) ? null : get(plugin, loaded, defaultLang);
+
+        String[] table = new String[snapshot.length];
+        for (MCEngineLangKey key : snapshot) {
+            String value = bundle.getString(key.getPath());
+            if (value == null && fallback != null) value = fallback.getString(key.getPath());
+            table[key.getIndex()] = value;
+        }
+        return table;
+    }
+
+    /**
+     * @param fileName file name (e.g., {@code en_US.json})
+     * @return {@code true} if the name has one of the {@link #EXTENSIONS}
+     */
+    public static boolean isBundleFile(String fileName) {
+        return precedenceOf(fileName) >= 0;
+    }
+
+    /**
+     * Normalizes a bundle file name to its language code.
+     *
+     * @param fileName file name (e.g., {@code en_US.json})
+     * @return normalized code (e.g., {@code en-us})
+     */
+    public static String codeOf(String fileName) {
+        int dot = fileName.lastIndexOf('.');
+        String base = dot > 0 ? fileName.substring(0, dot) : fileName;
+        return base.toLowerCase().replace('_', '-');
+    }
+
+    /**
+     * One plugin's bundle set together with the handle tables derived from it, so a reload
+     * discards both at once and a table can never outlive the bundles it was built from.
+     */
+    private static final class Loaded {
+
+        /** Bundles keyed by normalized code; codes without a file map to the default bundle. */
+        final Map<String, MCEngineLangBundle> bundles = new ConcurrentHashMap<>();
+
+        /** Handle-indexed value tables keyed by normalized code. */
+        final Map<String, String[]> tables = new ConcurrentHashMap<>();
+
+        /** Sections with fallback applied, keyed by normalized code, then dotted path. */
+        final Map<String, Map<String, MCEngineLangSection>> sections = new ConcurrentHashMap<>();
+    }
+}
@@ -0,0 +1,64 @@
+package io.github.mcengine.common.lang.bundle;
+
+/**
+ * Replaces {@code {name}} placeholders in localized templates.
+ *
+ * <p>
+ * Placeholders are given as name/value pairs, e.g. {@code format("Kills: {kills}", "kills", 12)}.
+ * Unknown placeholders are left as they are; values are rendered with {@link String#valueOf(Object)}.
+ * The template is scanned once, without regular expressions.
+ * </p>
+ */
+public final class MCEngineLangFormatter {
+
+    /** Marks a placeholder name without a value. */
+    private static final Object NOT_FOUND = new Object();
+
+    private MCEngineLangFormatter() {}
+
+    /**
+     * @param template     localized template (may be {@code null})
+     * @param placeholders alternating placeholder names and values
+     * @return rendered text, or {@code null} if {@code template} is {@code null}
+     * @throws IllegalArgumentException if {@code placeholders} has an odd length
+     */
+    public static String format(String template, Object... placeholders) {
+        if (placeholders.length % 2 != 0) {
+            throw new IllegalArgumentException("Placeholders must be name/value pairs, got " + placeholders.length + " values");
+        }
+        if (template == null || placeholders.length == 0 || template.indexOf('{') < 0) return template;
+
+        StringBuilder out = new StringBuilder(template.length() + 16);
+        int i = 0;
+        while (i < template.length()) {
+            int open = template.indexOf('{', i);
+            int close = open < 0 ? -1 : template.indexOf('}', open + 1);
+            if (close < 0) {
+                out.append(template, i, template.length());
+                break;
+            }
+            out.append(template, i, open);
+            Object value = lookup(template, open + 1, close, placeholders);
+            if (value == NOT_FOUND) {
+                out.append('{');
+                i = open + 1;
+            } else {
+                out.append(value);
+                i = close + 1;
+            }
+        }
+        return out.toString();
+    }
+
+    /** Finds the value of the placeholder named {@code template[from, to)}. */
+    private static Object lookup(String template, int from, int to, Object[] placeholders) {
+        int length = to - from;
+        for (int p = 0; p < placeholders.length; p += 2) {
+            String name = String.valueOf(placeholders[p]);
+            if (name.length() == length && template.regionMatches(from, name, 0, length)) {
+                return String.valueOf(placeholders[p + 1]);
+            }
+        }
+        return NOT_FOUND;
+    }
+}
@@ -0,0 +1,78 @@
+package io.github.mcengine.common.lang.bundle;
+
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Streaming reader for {@code lang/{code}.json} bundles.
+ *
+ * <p>
+ * Walks the document token by token with Gson's {@link JsonReader} (bundled with the server) and
+ * writes leaves straight into the bundle's lookup table, without building a tree. Nested objects become
+ * dotted paths, so {@code {"ui": {"menu": {"title": "Main menu"}}}} and {@code {"ui.menu.title": "Main menu"}}
+ * both yield {@code ui.menu.title}, exactly like YAML. Arrays become immutable string lists; numbers and
+ * booleans are stored as their text; {@code null}s are skipped.
+ * </p>
+ */
+final class MCEngineLangJsonParser {
+
+    private MCEngineLangJsonParser() {}
+
+    /**
+     * @param file   bundle file
+     * @param values receives {@code path → value} in file order
+     * @throws IOException if the file cannot be read or is not a JSON object
+     */
+    static void parse(File file, Map<String, Object> values) throws IOException {
+        try (JsonReader in = new JsonReader(Files.newBufferedReader(file.toPath(), StandardCharsets.UTF_8))) {
+            in.beginObject();
+            readObject(in, new StringBuilder(64), values);
+            in.endObject();
+        }
+    }
+
+    /** Reads the members of the current object; {@code path} holds the object's own path. */
+    private static void readObject(JsonReader in, StringBuilder path, Map<String, Object> values) throws IOException {
+        int base = path.length();
+        while (in.hasNext()) {
+            path.setLength(base);
+            if (base > 0) path.append('.');
+            path.append(in.nextName());
+
+            switch (in.peek()) {
+                case BEGIN_OBJECT -> {
+                    in.beginObject();
+                    readObject(in, path, values);
+                    in.endObject();
+                }
+                case BEGIN_ARRAY -> values.put(path.toString(), readList(in));
+                case NULL -> in.nextNull();
+                case BOOLEAN -> values.put(path.toString(), Boolean.toString(in.nextBoolean()));
+                default -> values.put(path.toString(), in.nextString());
+            }
+        }
+        path.setLength(base);
+    }
+
+    /** Reads an array of scalars into an immutable list; nested containers and nulls are skipped. */
+    private static List<String> readList(JsonReader in) throws IOException {
+        List<String> list = new ArrayList<>();
+        in.beginArray();
+        while (in.hasNext()) {
+            JsonToken token = in.peek();
+            if (token == JsonToken.STRING || token == JsonToken.NUMBER) list.add(in.nextString());
+            else if (token == JsonToken.BOOLEAN) list.add(Boolean.toString(in.nextBoolean()));
+            else in.skipValue();
+        }
+        in.endArray();
+        return List.copyOf(list);
+    }
+}
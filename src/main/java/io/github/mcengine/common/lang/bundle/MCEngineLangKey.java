@@ -0,0 +1,40 @@
+package io.github.mcengine.common.lang.bundle;
+
+/**
+ * Resolved handle for a message key, obtained once via
+ * {@link MCEngineLangBundleRegistry#key(String)}.
+ *
+ * <p>
+ * A handle is a dense index into per-locale value tables, so looking a message up by handle is an
+ * array load with no string hashing or path walk. Handles are never reassigned: they stay valid
+ * across bundle reloads and for the lifetime of the registry that issued them.
+ * </p>
+ */
+public final class MCEngineLangKey {
+
+    /** Slot in every per-locale value table. */
+    private final int index;
+
+    /** Dotted path of the key (e.g., {@code ui.menu.title}). */
+    private final String path;
+
+    MCEngineLangKey(int index, String path) {
+        this.index = index;
+        this.path = path;
+    }
+
+    /** @return slot in every per-locale value table */
+    public int getIndex() {
+        return index;
+    }
+
+    /** @return dotted path of the key */
+    public String getPath() {
+        return path;
+    }
+
+    @Override
+    public String toString() {
+        return path + "#" + index;
+    }
+}
@@ -0,0 +1,119 @@
+package io.github.mcengine.common.lang.bundle;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Map;
+
+/**
+ * Streaming reader for {@code lang/{code}.properties} bundles.
+ *
+ * <p>
+ * Reads the file line by line (UTF-8) straight into the bundle's lookup table, without the
+ * intermediate {@link java.util.Properties} hashtable. Keys are used as dotted paths as written
+ * (e.g., {@code ui.menu.title=Main menu}), so they match the YAML paths. Supports the usual
+ * {@code .properties} syntax: {@code =}, {@code :} or whitespace separators, {@code #}/{@code !}
+ * comments, trailing-backslash line continuations, and tab/newline/return/form-feed and
+ * four-digit unicode escapes.
+ * Values are always strings; lists are not supported in this format.
+ * </p>
+ */
+final class MCEngineLangPropertiesParser {
+
+    private MCEngineLangPropertiesParser() {}
+
+    /**
+     * @param file   bundle file
+     * @param values receives {@code key → value} in file order
+     * @throws IOException if the file cannot be read
+     */
+    static void parse(File file, Map<String, Object> values) throws IOException {
+        try (BufferedReader in = Files.newBufferedReader(file.toPath(), StandardCharsets.UTF_8)) {
+            StringBuilder logical = new StringBuilder(128);
+            String line;
+            while ((line = in.readLine()) != null) {
+                int start = skipWhitespace(line, 0);
+                if (logical.length() == 0) {
+                    if (start == line.length()) continue;
+                    char first = line.charAt(start);
+                    if (first == '#' || first == '!') continue;
+                }
+                logical.append(line, start, line.length());
+                if (endsWithContinuation(logical)) {
+                    logical.setLength(logical.length() - 1);
+                    continue;
+                }
+                parseEntry(logical, values);
+                logical.setLength(0);
+            }
+            if (logical.length() > 0) parseEntry(logical, values);
+        }
+    }
+
+    /** Splits one logical line into key and value and stores it. */
+    private static void parseEntry(CharSequence line, Map<String, Object> values) {
+        int length = line.length();
+        int keyEnd = 0;
+        while (keyEnd < length) {
+            char c = line.charAt(keyEnd);
+            if (c == '\\') {
+                keyEnd += 2;
+                continue;
+            }
+            if (c == '=' || c == ':' || Character.isWhitespace(c)) break;
+            keyEnd++;
+        }
+        keyEnd = Math.min(keyEnd, length);
+
+        int valueStart = skipWhitespace(line, keyEnd);
+        if (valueStart < length && (line.charAt(valueStart) == '=' || line.charAt(valueStart) == ':')) {
+            valueStart = skipWhitespace(line, valueStart + 1);
+        }
+
+        String key = unescape(line, 0, keyEnd);
+        if (!key.isEmpty()) values.put(key, unescape(line, valueStart, length));
+    }
+
+    /** Whether the line ends with an odd number of backslashes. */
+    private static boolean endsWithContinuation(CharSequence line) {
+        int slashes = 0;
+        for (int i = line.length() - 1; i >= 0 && line.charAt(i) == '\\'; i--) slashes++;
+        return (slashes & 1) == 1;
+    }
+
+    private static int skipWhitespace(CharSequence s, int from) {
+        while (from < s.length() && Character.isWhitespace(s.charAt(from))) from++;
+        return from;
+    }
+
+    /** Resolves escapes in {@code s[from, to)}. */
+    private static String unescape(CharSequence s, int from, int to) {
+        StringBuilder out = null;
+        for (int i = from; i < to; i++) {
+            char c = s.charAt(i);
+            if (c != '\\') {
+                if (out != null) out.append(c);
+                continue;
+            }
+            if (out == null) out = new StringBuilder(to - from).append(s, from, i);
+            if (++i >= to) break;
+            c = s.charAt(i);
+            switch (c) {
+                case 't' -> out.append('\t');
+                case 'n' -> out.append('\n');
+                case 'r' -> out.append('\r');
+                case 'f' -> out.append('\f');
+                case 'u' -> {
+                    if (i + 4 < to) {
+                        out.append((char) Integer.parseInt(s.subSequence(i + 1, i + 5).toString(), 16));
+                        i += 4;
+                    }
+                }
+                default -> out.append(c);
+            }
+        }
+        return out == null ? s.subSequence(from, to).toString() : out.toString();
+    }
+}
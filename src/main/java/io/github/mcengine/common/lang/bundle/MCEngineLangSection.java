@@ -0,0 +1,88 @@
+package io.github.mcengine.common.lang.bundle;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Immutable sub-section of a language bundle (e.g., {@code menu.items}), typically used for GUI
+ * items that carry a name plus multi-line lore.
+ *
+ * <p>
+ * Values are addressed by dotted paths relative to the section
+ * (e.g., {@code sword.name}, {@code sword.lore}). Sections are built once per bundle and cached, and
+ * every returned list is immutable and shared, so rendering a full menu allocates no new lists.
+ * </p>
+ */
+public final class MCEngineLangSection {
+
+    /** Marks a cached miss; never returned to callers. */
+    static final MCEngineLangSection EMPTY = new MCEngineLangSection("", Map.of());
+
+    /** Dotted path of this section inside the bundle. */
+    private final String path;
+
+    /** Leaf values keyed by relative dotted path, in file order. */
+    private final Map<String, Object> values;
+
+    /** Direct child names, in file order. */
+    private final Set<String> keys;
+
+    MCEngineLangSection(String path, Map<String, Object> values) {
+        this.path = path;
+        this.values = Collections.unmodifiableMap(values);
+        Set<String> keys = new LinkedHashSet<>();
+        for (String key : values.keySet()) {
+            int dot = key.indexOf('.');
+            keys.add(dot < 0 ? key : key.substring(0, dot));
+        }
+        this.keys = Collections.unmodifiableSet(keys);
+    }
+
+    /**
+     * Returns a section holding every value of this one plus the values of {@code fallback} that this
+     * one lacks, so per-key fallback semantics match {@code getLangTextFromYml}.
+     *
+     * @param fallback section of the default language, or {@code null}
+     * @return merged section ({@code this} if nothing is missing)
+     */
+    MCEngineLangSection withFallback(MCEngineLangSection fallback) {
+        if (fallback == null || values.keySet().containsAll(fallback.values.keySet())) return this;
+        Map<String, Object> merged = new LinkedHashMap<>(values);
+        fallback.values.forEach(merged::putIfAbsent);
+        return new MCEngineLangSection(path, merged);
+    }
+
+    /** @return dotted path of this section inside the bundle */
+    public String getPath() {
+        return path;
+    }
+
+    /** @return direct child names, in file order */
+    public Set<String> getKeys() {
+        return keys;
+    }
+
+    /**
+     * @param key path relative to this section (e.g., {@code sword.name})
+     * @return value as a string, or {@code null} if absent
+     */
+    public String getString(String key) {
+        Object value = values.get(key);
+        if (value == null) return null;
+        return value instanceof String s ? s : value.toString();
+    }
+
+    /**
+     * @param key path relative to this section (e.g., {@code sword.lore})
+     * @return immutable shared list, or an empty list if absent or not a list
+     */
+    @SuppressWarnings("unchecked")
+    public List<String> getStringList(String key) {
+        Object value = values.get(key);
+        return value instanceof List<?> ? (List<String>) value : List.of();
+    }
+}
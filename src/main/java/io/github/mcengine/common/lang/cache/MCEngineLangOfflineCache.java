@@ -0,0 +1,109 @@
+package io.github.mcengine.common.lang.cache;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.BiConsumer;
+
+/**
+ * Size- and TTL-bounded cache of stored overrides for players without an active session.
+ *
+ * <p>
+ * Used for lookups by UUID (mail, auction house, chat bridges) so bulk notifications to offline
+ * recipients do not each cost a query. It is kept separate from {@link MCEngineLangSessionCache}:
+ * session entries live exactly as long as the session, while entries here are evicted least recently
+ * used once {@code maxSize} is exceeded and expire {@code ttlMillis} after they were written, so
+ * changes made by another server become visible within the TTL. All methods are thread-safe.
+ * </p>
+ */
+public final class MCEngineLangOfflineCache {
+
+    /** Marker stored for players known to have no override row. */
+    private static final String NO_OVERRIDE = "";
+
+    /** A cached override and the time it stops being valid. */
+    private record Entry(String lang, long expiresAt) {}
+
+    /** Time-to-live of an entry, in nanoseconds. */
+    private final long ttlNanos;
+
+    /** Entries in access order; guarded by {@code this}. */
+    private final LinkedHashMap<UUID, Entry> entries;
+
+    /**
+     * @param maxSize   maximum number of players kept (at least 1)
+     * @param ttlMillis how long an entry stays valid after it was written
+     */
+    public MCEngineLangOfflineCache(int maxSize, long ttlMillis) {
+        final int limit = Math.max(1, maxSize);
+        this.ttlNanos = Math.max(0L, ttlMillis) * 1_000_000L;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<UUID, Entry> eldest) {
+                return size() > limit;
+            }
+        };
+    }
+
+    /**
+     * @param playerUuid player's unique id
+     * @return {@code true} if the player's stored override (or its absence) is cached and not expired
+     */
+    public synchronized boolean contains(UUID playerUuid) {
+        Entry entry = entries.get(playerUuid);
+        if (entry == null) return false;
+        if (System.nanoTime() - entry.expiresAt() < 0) return true;
+        entries.remove(playerUuid);
+        return false;
+    }
+
+    /**
+     * Returns the cached override for a player.
+     *
+     * @param playerUuid player's unique id
+     * @return normalized language code, or {@code null} if the player has no override
+     *         or nothing is cached (see {@link #contains(UUID)})
+     */
+    public synchronized String get(UUID playerUuid) {
+        Entry entry = entries.get(playerUuid);
+        return entry == null || entry.lang().isEmpty() ? null : entry.lang();
+    }
+
+    /**
+     * Caches (or replaces) the override for a player and restarts its TTL.
+     *
+     * @param playerUuid player's unique id
+     * @param lang       normalized language code, or {@code null} for "no override"
+     */
+    public synchronized void put(UUID playerUuid, String lang) {
+        entries.put(playerUuid, new Entry(lang == null ? NO_OVERRIDE : lang, System.nanoTime() + ttlNanos));
+    }
+
+    /**
+     * Drops the cached entry for a player.
+     *
+     * @param playerUuid player's unique id
+     */
+    public synchronized void remove(UUID playerUuid) {
+        entries.remove(playerUuid);
+    }
+
+    /**
+     * Visits every cached override, including expired entries not yet evicted.
+     *
+     * @param consumer receives the player's UUID and normalized override ({@code null} for "no override")
+     */
+    public synchronized void forEachOverride(BiConsumer<UUID, String> consumer) {
+        entries.forEach((uuid, entry) -> consumer.accept(uuid, entry.lang().isEmpty() ? null : entry.lang()));
+    }
+
+    /** Drops every cached entry. */
+    public synchronized void clear() {
+        entries.clear();
+    }
+
+    /** @return number of cached players, including expired entries not yet evicted */
+    public synchronized int size() {
+        return entries.size();
+    }
+}
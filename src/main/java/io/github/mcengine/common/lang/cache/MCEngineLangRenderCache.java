@@ -0,0 +1,181 @@
+package io.github.mcengine.common.lang.cache;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Small, bounded cache of rendered messages keyed by (plugin, message key, locale, arguments).
+ *
+ * <p>
+ * Scoreboards and holograms re-render the same line with the same arguments every tick; a hit returns
+ * the previously rendered {@link String} instance without any formatting work. Eviction is by
+ * frequency: once the cache exceeds its capacity, the least frequently used tenth of the entries is
+ * dropped in one pass. Every tenth pass (roughly once per {@code capacity} insertions) the counters of
+ * the survivors are halved, so formerly popular lines age out.
+ * Lookups are lock-free; only eviction is serialized.
+ * </p>
+ *
+ * <p>
+ * {@link #invalidate(String)} and {@link #clear()} advance a generation counter; a rendering that was
+ * started before either call is returned to its caller but not kept, so a render from replaced bundles
+ * cannot outlive the invalidation.
+ * </p>
+ */
+public final class MCEngineLangRenderCache {
+
+    /** Cache key; arguments are compared element-wise. */
+    private record Key(String plugin, String messageKey, String locale, Object[] args) {
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Key k && plugin.equals(k.plugin) && messageKey.equals(k.messageKey)
+                    && locale.equals(k.locale) && Arrays.equals(args, k.args);
+        }
+
+        @Override
+        public int hashCode() {
+            return ((plugin.hashCode() * 31 + messageKey.hashCode()) * 31 + locale.hashCode()) * 31 + Arrays.hashCode(args);
+        }
+    }
+
+    /** A rendered message and its use count since the last aging pass. */
+    private static final class Entry {
+
+        final String rendered;
+
+        final AtomicInteger frequency = new AtomicInteger(1);
+
+        Entry(String rendered) {
+            this.rendered = rendered;
+        }
+    }
+
+    /** An entry considered for eviction, with its counter at snapshot time. */
+    private record Candidate(Key key, Entry entry, int frequency) {}
+
+    /** Maximum number of entries kept. */
+    private final int capacity;
+
+    /** Rendered messages by key. */
+    private final Map<Key, Entry> entries = new ConcurrentHashMap<>();
+
+    /** Advanced by every invalidation; renderings started under an older value are not kept. */
+    private final AtomicLong generation = new AtomicLong();
+
+    /** Eviction passes so far; guarded by {@code this}. */
+    private long evictionPasses;
+
+    /** Lookups answered from the cache. */
+    private final LongAdder hits = new LongAdder();
+
+    /** Lookups that had to render. */
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * @param capacity maximum number of rendered messages kept (at least 1)
+     */
+    public MCEngineLangRenderCache(int capacity) {
+        this.capacity = Math.max(1, capacity);
+    }
+
+    /**
+     * Returns the cached rendering for a tuple, rendering and caching it on a miss.
+     *
+     * @param plugin     name of the plugin owning the bundle
+     * @param messageKey YAML key of the message
+     * @param locale     normalized language code
+     * @param args       placeholder arguments (compared by {@code equals}; should be immutable values)
+     * @param render     produces the rendered message on a miss; {@code null} results are not cached
+     * @return rendered message, or {@code null} if {@code render} returned {@code null}
+     */
+    public String get(String plugin, String messageKey, String locale, Object[] args, Supplier<String> render) {
+        Key key = new Key(plugin, messageKey, locale, args);
+        Entry entry = entries.get(key);
+        if (entry != null) {
+            entry.frequency.incrementAndGet();
+            hits.increment();
+            return entry.rendered;
+        }
+
+        misses.increment();
+        long started = generation.get();
+        String rendered = render.get();
+        if (rendered == null || generation.get() != started) return rendered;
+        Key stored = new Key(plugin, messageKey, locale, args.clone());
+        Entry created = new Entry(rendered);
+        Entry previous = entries.putIfAbsent(stored, created);
+        if (previous != null) return previous.rendered;
+        if (generation.get() != started) {
+            entries.remove(stored, created); // invalidated while inserting
+            return rendered;
+        }
+        if (entries.size() > capacity) evict();
+        return rendered;
+    }
+
+    /**
+     * Drops every rendering of a plugin's messages (e.g., after its bundles were reloaded).
+     *
+     * @param plugin plugin name
+     */
+    public void invalidate(String plugin) {
+        generation.incrementAndGet();
+        entries.keySet().removeIf(k -> k.plugin().equals(plugin));
+    }
+
+    /** Drops every cached rendering. */
+    public void clear() {
+        generation.incrementAndGet();
+        entries.clear();
+    }
+
+    /** @return lookups answered from the cache */
+    public long getHits() {
+        return hits.sum();
+    }
+
+    /** @return lookups that had to render */
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    /** @return fraction of lookups answered from the cache (0 when nothing was looked up) */
+    public double getHitRate() {
+        long h = hits.sum();
+        long total = h + misses.sum();
+        return total == 0 ? 0.0 : (double) h / total;
+    }
+
+    /** @return number of cached renderings */
+    public int size() {
+        return entries.size();
+    }
+
+    /** Removes the least frequently used tenth of the entries, periodically halving the remaining counters. */
+    private synchronized void evict() {
+        if (entries.size() <= capacity) return;
+        // Snapshot the counters first; they keep changing under concurrent hits.
+        List<Candidate> all = new ArrayList<>(entries.size());
+        entries.forEach((k, v) -> all.add(new Candidate(k, v, v.frequency.get())));
+        all.sort(Comparator.comparingInt(Candidate::frequency));
+
+        int toRemove = Math.max(all.size() - capacity, capacity / 10);
+        boolean age = ++evictionPasses % 10 == 0;
+        for (int i = 0; i < all.size(); i++) {
+            Candidate c = all.get(i);
+            if (i < toRemove) {
+                entries.remove(c.key(), c.entry());
+            } else if (age) {
+                c.entry().frequency.updateAndGet(f -> f >>> 1);
+            }
+        }
+    }
+}
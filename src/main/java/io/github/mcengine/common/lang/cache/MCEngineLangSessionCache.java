@@ -0,0 +1,113 @@
+package io.github.mcengine.common.lang.cache;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+
+/**
+ * Holds the language state of players with an active (or pending) session.
+ *
+ * <p>
+ * Entries are staged off the main thread during {@code AsyncPlayerPreLoginEvent} and
+ * removed when the player quits, so localized lookups during a session never wait on
+ * the database. All methods are thread-safe.
+ * </p>
+ *
+ * <p>
+ * Two values are tracked per player:
+ * <ul>
+ *   <li>the stored override from the {@code lang} table, or "no override" when no row exists;</li>
+ *   <li>the client locale last reported by {@code PlayerLocaleChangeEvent}.</li>
+ * </ul>
+ * </p>
+ */
+public final class MCEngineLangSessionCache {
+
+    /** Marker stored for players known to have no override row. */
+    private static final String NO_OVERRIDE = "";
+
+    /** Normalized stored overrides (or {@link #NO_OVERRIDE}) keyed by player UUID. */
+    private final Map<UUID, String> overrides = new ConcurrentHashMap<>();
+
+    /** Normalized client locales keyed by player UUID. */
+    private final Map<UUID, String> locales = new ConcurrentHashMap<>();
+
+    /**
+     * @param playerUuid player's unique id
+     * @return {@code true} if the player's stored override (or its absence) is known
+     */
+    public boolean contains(UUID playerUuid) {
+        return overrides.containsKey(playerUuid);
+    }
+
+    /**
+     * Returns the staged override for a player.
+     *
+     * @param playerUuid player's unique id
+     * @return normalized language code, or {@code null} if the player has no override
+     *         or nothing is staged (see {@link #contains(UUID)})
+     */
+    public String get(UUID playerUuid) {
+        String lang = overrides.get(playerUuid);
+        return lang == null || lang.isEmpty() ? null : lang;
+    }
+
+    /**
+     * Stages (or replaces) the override for a player.
+     *
+     * @param playerUuid player's unique id
+     * @param lang       normalized language code, or {@code null} for "no override"
+     */
+    public void put(UUID playerUuid, String lang) {
+        overrides.put(playerUuid, lang == null ? NO_OVERRIDE : lang);
+    }
+
+    /**
+     * @param playerUuid player's unique id
+     * @return normalized client locale, or {@code null} if none was reported
+     */
+    public String getLocale(UUID playerUuid) {
+        return locales.get(playerUuid);
+    }
+
+    /**
+     * Records the client locale for a player.
+     *
+     * @param playerUuid player's unique id
+     * @param locale     normalized client locale
+     */
+    public void putLocale(UUID playerUuid, String locale) {
+        locales.put(playerUuid, locale);
+    }
+
+    /**
+     * Drops everything staged for a player.
+     *
+     * @param playerUuid player's unique id
+     */
+    public void remove(UUID playerUuid) {
+        overrides.remove(playerUuid);
+        locales.remove(playerUuid);
+    }
+
+    /**
+     * Visits every staged override.
+     *
+     * @param consumer receives the player's UUID and normalized override ({@code null} for "no override")
+     */
+    public void forEachOverride(BiConsumer<UUID, String> consumer) {
+        overrides.forEach((uuid, lang) -> consumer.accept(uuid, lang.isEmpty() ? null : lang));
+    }
+
+    /** Drops every staged entry. */
+    public void clear() {
+        overrides.clear();
+        locales.clear();
+    }
+
+    /** @return number of staged players */
+    public int size() {
+        return overrides.size();
+    }
+}
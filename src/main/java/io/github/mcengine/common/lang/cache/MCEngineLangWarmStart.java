@@ -0,0 +1,215 @@
+package io.github.mcengine.common.lang.cache;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+
+/**
+ * Player overrides carried over from the previous run, so a restart wave is served from local state
+ * instead of one query per rejoining player.
+ *
+ * <p>
+ * The snapshot records the {@code lang} table's row-version watermark ({@code MAX(updated_at)}) taken
+ * when the previous run started caching. Every entry was read after that point, so a single
+ * {@code updated_at >= watermark} query finds all rows that may have changed since; those entries are
+ * corrected. Deleted rows leave no version behind, so the caller also checks that the rows behind the
+ * remaining overrides still exist and marks the missing ones with {@link #update(UUID, String)}. Each
+ * entry is used at most once ({@link #take(UUID)}), and dropped as soon as the player's language changes
+ * locally ({@link #remove(UUID)}).
+ * </p>
+ *
+ * <p>File layout (big-endian):</p>
+ * <pre>
+ * int    magic "LWRM", int version (1)
+ * long   watermark, long savedAt (epoch millis)
+ * ubyte  n, then n × UTF language codes
+ * int    m, then m × { long msb, long lsb, ubyte index }   (index 255 = no override)
+ * </pre>
+ *
+ * <p>All methods are thread-safe.</p>
+ */
+public final class MCEngineLangWarmStart {
+
+    /** Identifies warm-start files. */
+    private static final int MAGIC = 0x4C57524D; // "LWRM"
+
+    /** File format version. */
+    private static final int VERSION = 1;
+
+    /** Table index marking "no override". */
+    private static final int NO_OVERRIDE_INDEX = 255;
+
+    /** Marker stored for players known to have no override row. */
+    private static final String NO_OVERRIDE = "";
+
+    /** Row-version watermark the entries are valid from. */
+    private final long watermark;
+
+    /** When the snapshot was written (epoch millis). */
+    private final long savedAt;
+
+    /** Normalized overrides (or {@link #NO_OVERRIDE}) keyed by player UUID. */
+    private final Map<UUID, String> entries;
+
+    private MCEngineLangWarmStart(long watermark, long savedAt, Map<UUID, String> entries) {
+        this.watermark = watermark;
+        this.savedAt = savedAt;
+        this.entries = entries;
+    }
+
+    /** @return row-version watermark to reconcile from ({@code updated_at >= watermark}) */
+    public long getWatermark() {
+        return watermark;
+    }
+
+    /** @return when the snapshot was written (epoch millis) */
+    public long getSavedAt() {
+        return savedAt;
+    }
+
+    /** @return number of entries not yet taken */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Applies a row found by reconciliation.
+     *
+     * @param playerUuid player's unique id
+     * @param lang       current normalized override, or {@code null} for "no override"
+     */
+    public void update(UUID playerUuid, String lang) {
+        entries.replace(playerUuid, lang == null ? NO_OVERRIDE : lang);
+    }
+
+    /**
+     * @param playerUuid player's unique id
+     * @return {@code true} if an entry for the player is available
+     */
+    public boolean contains(UUID playerUuid) {
+        return entries.containsKey(playerUuid);
+    }
+
+    /**
+     * Removes and returns a player's entry.
+     *
+     * @param playerUuid player's unique id
+     * @return normalized override, or {@code null} for "no override" or if there is no entry
+     */
+    public String take(UUID playerUuid) {
+        String lang = entries.remove(playerUuid);
+        return lang == null || lang.isEmpty() ? null : lang;
+    }
+
+    /**
+     * Drops a player's entry (e.g., after a local or remote change).
+     *
+     * @param playerUuid player's unique id
+     */
+    public void remove(UUID playerUuid) {
+        entries.remove(playerUuid);
+    }
+
+    /**
+     * Visits the entries not yet taken.
+     *
+     * @param consumer receives the player's UUID and normalized override ({@code null} for "no override")
+     */
+    public void forEachOverride(BiConsumer<UUID, String> consumer) {
+        entries.forEach((uuid, lang) -> consumer.accept(uuid, lang.isEmpty() ? null : lang));
+    }
+
+    /**
+     * Writes a snapshot to a temporary file, syncs it and atomically replaces {@code file}.
+     *
+     * @param file      snapshot file
+     * @param watermark row-version watermark the entries are valid from
+     * @param overrides {@code uuid → normalized override} ({@code null} values for "no override")
+     * @throws IOException if the file cannot be written
+     */
+    public static void save(File file, long watermark, Map<UUID, String> overrides) throws IOException {
+        File parent = file.getAbsoluteFile().getParentFile();
+        if (parent != null) parent.mkdirs();
+        File tmp = new File(file.getPath() + ".tmp");
+
+        List<String> table = new ArrayList<>();
+        Map<String, Integer> indexes = new HashMap<>();
+        for (String lang : overrides.values()) {
+            if (lang != null && table.size() < NO_OVERRIDE_INDEX && indexes.putIfAbsent(lang, table.size()) == null) {
+                table.add(lang);
+            }
+        }
+
+        try (FileOutputStream fos = new FileOutputStream(tmp);
+             DataOutputStream out = new DataOutputStream(new BufferedOutputStream(fos))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeLong(watermark);
+            out.writeLong(System.currentTimeMillis());
+            out.writeByte(table.size());
+            for (String lang : table) out.writeUTF(lang);
+
+            int count = 0;
+            for (String lang : overrides.values()) {
+                if (lang == null || indexes.containsKey(lang)) count++;
+            }
+            out.writeInt(count);
+            for (Map.Entry<UUID, String> e : overrides.entrySet()) {
+                Integer index = e.getValue() == null ? Integer.valueOf(NO_OVERRIDE_INDEX) : indexes.get(e.getValue());
+                if (index == null) continue; // more than 255 distinct languages; left to the database
+                out.writeLong(e.getKey().getMostSignificantBits());
+                out.writeLong(e.getKey().getLeastSignificantBits());
+                out.writeByte(index);
+            }
+            out.flush();
+            fos.getFD().sync();
+        }
+        Files.move(tmp.toPath(), file.toPath(),
+                StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Reads a snapshot.
+     *
+     * @param file snapshot file
+     * @return the snapshot, or {@code null} if the file does not exist
+     * @throws IOException if the file cannot be read or is not a warm-start snapshot
+     */
+    public static MCEngineLangWarmStart load(File file) throws IOException {
+        if (!file.isFile()) return null;
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+            if (in.readInt() != MAGIC) throw new IOException("not a Lang warm-start snapshot");
+            int version = in.readInt();
+            if (version != VERSION) throw new IOException("unsupported snapshot version " + version);
+            long watermark = in.readLong();
+            long savedAt = in.readLong();
+
+            String[] table = new String[in.readUnsignedByte()];
+            for (int i = 0; i < table.length; i++) table[i] = in.readUTF();
+
+            int count = in.readInt();
+            Map<UUID, String> entries = new ConcurrentHashMap<>(Math.max(16, count * 4 / 3 + 1));
+            for (int i = 0; i < count; i++) {
+                UUID uuid = new UUID(in.readLong(), in.readLong());
+                int index = in.readUnsignedByte();
+                if (index != NO_OVERRIDE_INDEX && index >= table.length) throw new IOException("corrupt entry " + i);
+                entries.put(uuid, index == NO_OVERRIDE_INDEX ? NO_OVERRIDE : table[index]);
+            }
+            return new MCEngineLangWarmStart(watermark, savedAt, entries);
+        }
+    }
+}
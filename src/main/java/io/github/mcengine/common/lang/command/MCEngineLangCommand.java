@@ -1,6 +1,8 @@
 package io.github.mcengine.common.lang.command;
 
 import io.github.mcengine.common.lang.MCEngineLangCommon;
+import io.github.mcengine.common.lang.cache.MCEngineLangRenderCache;
+import io.github.mcengine.common.lang.invalidation.MCEngineLangInvalidationBus;
 import org.bukkit.ChatColor;
 import org.bukkit.command.Command;
 import org.bukkit.command.CommandExecutor;
@@ -8,6 +10,9 @@ import org.bukkit.command.CommandSender;
 import org.bukkit.entity.Player;
 import org.bukkit.plugin.Plugin;
 
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
 /**
  * Handles the {@code /lang} command.
  *
@@ -16,6 +21,9 @@ import org.bukkit.plugin.Plugin;
  *   /lang                       - show current language
  *   /lang set &lt;lang&gt;           - set language (normalized to lower-case with hyphens)
  *   /lang change &lt;lang&gt;        - change language only if different
+ *   /lang stats                 - show stored players per language (console allowed)
+ *   /lang migrate &lt;from&gt; &lt;to&gt; [fetchSize] [batchSize]
+ *                               - copy the lang table between backends (console allowed)
  * </pre>
  *
  * <p>
@@ -40,6 +48,21 @@ public final class MCEngineLangCommand implements CommandExecutor {
     /** Permission required to run subcommand {@code change}. */
     private static final String PERM_CHANGE = "mcengine.lang.change";
 
+    /** Permission required to run subcommand {@code stats}. */
+    private static final String PERM_STATS = "mcengine.lang.stats";
+
+    /** Permission required to run subcommand {@code migrate}. */
+    private static final String PERM_MIGRATE = "mcengine.lang.migrate";
+
+    /** Default rows fetched per cursor round trip for {@code migrate}. */
+    private static final int DEFAULT_FETCH_SIZE = 1000;
+
+    /** Default rows written per transaction for {@code migrate}. */
+    private static final int DEFAULT_BATCH_SIZE = 500;
+
+    /** Guards against running two migrations at once. */
+    private final AtomicBoolean migrating = new AtomicBoolean();
+
     /**
      * Constructs the {@code /lang} command executor.
      *
@@ -53,8 +76,16 @@ public final class MCEngineLangCommand implements CommandExecutor {
 
     @Override
     public boolean onCommand(CommandSender sender, Command command, String label, String[] args) {
+        if (args.length > 0 && "migrate".equalsIgnoreCase(args[0])) {
+            return handleMigrate(sender, label, args);
+        }
+        if (args.length > 0 && "stats".equalsIgnoreCase(args[0])) {
+            return handleStats(sender, label);
+        }
+
         if (!(sender instanceof Player player)) {
             sender.sendMessage(ChatColor.RED + "This command can only be used by players.");
+            sendUsage(sender, label);
             return true;
         }
 
@@ -67,7 +98,7 @@ public final class MCEngineLangCommand implements CommandExecutor {
         if (args.length == 0) {
             String current = langCommon.getLang(player);
             sender.sendMessage(ChatColor.YELLOW + "Your language is: " + ChatColor.GREEN + current);
-            sender.sendMessage(ChatColor.GRAY + "Usage: /" + label + " set <lang>  or  /" + label + " change <lang>");
+            sendUsage(sender, label);
             return true;
         }
 
@@ -91,7 +122,7 @@ public final class MCEngineLangCommand implements CommandExecutor {
                 return true;
             }
 
-            langCommon.setLang(player, langArg);
+            langCommon.setLangAsync(player, langArg);
             String now = langCommon.getLang(player);
             sender.sendMessage(ChatColor.GREEN + "Language set to: " + ChatColor.AQUA + now);
             return true;
@@ -107,18 +138,132 @@ public final class MCEngineLangCommand implements CommandExecutor {
                 return true;
             }
             String langArg = args[1];
-            boolean changed = langCommon.changeLang(player, langArg);
-            String now = langCommon.getLang(player);
-            if (changed) {
-                sender.sendMessage(ChatColor.GREEN + "Language changed to: " + ChatColor.AQUA + now);
-            } else {
-                sender.sendMessage(ChatColor.YELLOW + "No change applied. Current language: " + ChatColor.AQUA + now);
-            }
+            langCommon.changeLangAsync(player, langArg).whenComplete((changed, error) ->
+                    plugin.getServer().getScheduler().runTask(plugin, () -> {
+                        String now = langCommon.getLang(player);
+                        if (error != null) {
+                            sender.sendMessage(ChatColor.RED + "Failed to change language. Current language: " + ChatColor.AQUA + now);
+                        } else if (changed) {
+                            sender.sendMessage(ChatColor.GREEN + "Language changed to: " + ChatColor.AQUA + now);
+                        } else {
+                            sender.sendMessage(ChatColor.YELLOW + "No change applied. Current language: " + ChatColor.AQUA + now);
+                        }
+                    }));
             return true;
         }
 
         sender.sendMessage(ChatColor.RED + "Unknown subcommand: " + args[0]);
-        sender.sendMessage(ChatColor.GRAY + "Usage: /" + label + " set <lang>  or  /" + label + " change <lang>");
+        sendUsage(sender, label);
+        return true;
+    }
+
+    /** Lists the subcommands the sender can use. */
+    private void sendUsage(CommandSender sender, String label) {
+        String prefix = "Usage: ";
+        if (sender instanceof Player) {
+            sender.sendMessage(ChatColor.GRAY + prefix + "/" + label + " set <lang>  or  /" + label + " change <lang>");
+            prefix = "       ";
+        }
+        if (sender.hasPermission(PERM_STATS)) {
+            sender.sendMessage(ChatColor.GRAY + prefix + "/" + label + " stats");
+            prefix = "       ";
+        }
+        if (sender.hasPermission(PERM_MIGRATE)) {
+            sender.sendMessage(ChatColor.GRAY + prefix + "/" + label + " migrate <from> <to> [fetchSize] [batchSize]");
+        }
+    }
+
+    /** Handles {@code /lang stats}: prints the incrementally maintained language distribution. */
+    private boolean handleStats(CommandSender sender, String label) {
+        if (!sender.hasPermission(PERM_STATS)) {
+            sender.sendMessage(ChatColor.RED + "You don't have permission to use /" + label + " stats.");
+            return true;
+        }
+        MCEngineLangRenderCache renderCache = langCommon.getRenderCache();
+        if (renderCache != null) {
+            sender.sendMessage(ChatColor.YELLOW + "Render cache: " + ChatColor.GREEN
+                    + String.format("%.1f%%", renderCache.getHitRate() * 100) + ChatColor.GRAY + " hit rate ("
+                    + renderCache.getHits() + " hits, " + renderCache.getMisses() + " misses, "
+                    + renderCache.size() + " entries)");
+        }
+        MCEngineLangInvalidationBus invalidation = langCommon.getInvalidationBus();
+        if (invalidation != null) {
+            sender.sendMessage(ChatColor.YELLOW + "Invalidation: " + ChatColor.GREEN + invalidation.getSentChanges()
+                    + ChatColor.GRAY + " sent in " + invalidation.getSentPayloads() + " messages, "
+                    + ChatColor.GREEN + invalidation.getReceivedChanges() + ChatColor.GRAY + " received");
+        }
+        long lookupTimeouts = langCommon.getLookupTimeouts();
+        if (lookupTimeouts > 0) {
+            sender.sendMessage(ChatColor.YELLOW + "Lookup timeouts: " + ChatColor.RED + lookupTimeouts
+                    + ChatColor.GRAY + " (answered with defaults)");
+        }
+        if (!langCommon.isLangDistributionReady()) {
+            sender.sendMessage(ChatColor.YELLOW + "Language statistics are still loading.");
+            return true;
+        }
+
+        Map<String, Long> counts = langCommon.getLangDistribution();
+        if (counts.isEmpty()) {
+            sender.sendMessage(ChatColor.YELLOW + "No stored language preferences.");
+            return true;
+        }
+        sender.sendMessage(ChatColor.YELLOW + "Stored players per language:");
+        counts.forEach((lang, count) ->
+                sender.sendMessage(ChatColor.GRAY + " - " + ChatColor.AQUA + lang + ChatColor.GRAY + ": " + ChatColor.GREEN + count));
+        return true;
+    }
+
+    /**
+     * Handles {@code /lang migrate <from> <to> [fetchSize] [batchSize]} on an async task.
+     * Progress lines are relayed to the sender on the main thread.
+     */
+    private boolean handleMigrate(CommandSender sender, String label, String[] args) {
+        if (!sender.hasPermission(PERM_MIGRATE)) {
+            sender.sendMessage(ChatColor.RED + "You don't have permission to use /" + label + " migrate.");
+            return true;
+        }
+        if (args.length < 3) {
+            sender.sendMessage(ChatColor.RED + "Usage: /" + label + " migrate <from> <to> [fetchSize] [batchSize]");
+            return true;
+        }
+
+        final int fetchSize;
+        final int batchSize;
+        try {
+            fetchSize = args.length > 3 ? Integer.parseInt(args[3]) : DEFAULT_FETCH_SIZE;
+            batchSize = args.length > 4 ? Integer.parseInt(args[4]) : DEFAULT_BATCH_SIZE;
+        } catch (NumberFormatException e) {
+            sender.sendMessage(ChatColor.RED + "fetchSize and batchSize must be numbers.");
+            return true;
+        }
+
+        if (!migrating.compareAndSet(false, true)) {
+            sender.sendMessage(ChatColor.RED + "A Lang migration is already running.");
+            return true;
+        }
+
+        String from = args[1];
+        String to = args[2];
+        sender.sendMessage(ChatColor.YELLOW + "Migrating Lang data from " + ChatColor.AQUA + from
+                + ChatColor.YELLOW + " to " + ChatColor.AQUA + to + ChatColor.YELLOW + "...");
+        plugin.getServer().getScheduler().runTaskAsynchronously(plugin, () -> {
+            try {
+                long rows = langCommon.migrate(from, to, fetchSize, batchSize,
+                        line -> reply(sender, ChatColor.GRAY + line));
+                reply(sender, ChatColor.GREEN + "Lang migration complete: " + rows + " rows copied.");
+            } catch (RuntimeException e) {
+                plugin.getLogger().warning("Lang migration failed: " + e.getMessage());
+                reply(sender, ChatColor.RED + "Lang migration failed: " + e.getMessage()
+                        + ChatColor.GRAY + " (run the same command again to resume)");
+            } finally {
+                migrating.set(false);
+            }
+        });
         return true;
     }
+
+    /** Sends a message to the sender from the main thread. */
+    private void reply(CommandSender sender, String message) {
+        plugin.getServer().getScheduler().runTask(plugin, () -> sender.sendMessage(message));
+    }
 }
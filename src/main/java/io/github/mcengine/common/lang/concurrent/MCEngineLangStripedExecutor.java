@@ -0,0 +1,135 @@
+package io.github.mcengine.common.lang.concurrent;
+
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Runs tasks on a fixed set of single-threaded "stripes" selected by player UUID.
+ *
+ * <p>
+ * All tasks for one UUID land on the same stripe and therefore run strictly in submission order,
+ * while tasks for UUIDs on different stripes run in parallel. There is no global lock.
+ * </p>
+ *
+ * <p>
+ * {@link #stripeOf(UUID, int)} is also used by the pooled SQL backends to pick a connection, so with
+ * as many stripes as pooled connections each stripe always writes through its own connection.
+ * </p>
+ */
+public final class MCEngineLangStripedExecutor {
+
+    /** One single-threaded executor per stripe. */
+    private final ExecutorService[] stripes;
+
+    /**
+     * @param stripeCount number of stripes (at least 1)
+     * @param threadName  thread name prefix (the stripe index is appended)
+     */
+    public MCEngineLangStripedExecutor(int stripeCount, String threadName) {
+        this.stripes = new ExecutorService[Math.max(1, stripeCount)];
+        for (int i = 0; i < stripes.length; i++) {
+            final String name = threadName + "-" + i;
+            stripes[i] = Executors.newSingleThreadExecutor(r -> {
+                Thread t = new Thread(r, name);
+                t.setDaemon(true);
+                return t;
+            });
+        }
+    }
+
+    /**
+     * Returns the stripe index for a UUID.
+     *
+     * @param key         player's unique id
+     * @param stripeCount number of stripes
+     * @return index in {@code [0, stripeCount)}
+     */
+    public static int stripeOf(UUID key, int stripeCount) {
+        return Math.floorMod(key.hashCode(), stripeCount);
+    }
+
+    /**
+     * Queues a task behind every task previously submitted for the same UUID.
+     *
+     * @param key  player's unique id
+     * @param task work to run on the stripe thread
+     * @param <T>  result type
+     * @return future completed with the task's result (or exception)
+     */
+    public <T> CompletableFuture<T> submit(UUID key, Supplier<T> task) {
+        return CompletableFuture.supplyAsync(task, stripes[stripeOf(key, stripes.length)]);
+    }
+
+    /**
+     * Queues a task behind every task previously submitted for any UUID; no stripe runs anything else
+     * until it finishes. Use sparingly: it pauses every player's writes for its duration.
+     *
+     * @param task work to run once all stripes are idle
+     * @param <T>  result type
+     * @return future completed with the task's result (or exception)
+     */
+    public <T> CompletableFuture<T> submitExclusive(Supplier<T> task) {
+        CountDownLatch parked = new CountDownLatch(stripes.length);
+        CountDownLatch done = new CountDownLatch(1);
+        for (int i = 1; i < stripes.length; i++) {
+            stripes[i].execute(() -> {
+                parked.countDown();
+                awaitUninterruptibly(done);
+            });
+        }
+        return CompletableFuture.supplyAsync(() -> {
+            parked.countDown();
+            awaitUninterruptibly(parked);
+            try {
+                return task.get();
+            } finally {
+                done.countDown();
+            }
+        }, stripes[0]);
+    }
+
+    /** @return number of stripes */
+    public int getStripeCount() {
+        return stripes.length;
+    }
+
+    /** Waits for a latch, restoring the interrupt flag afterwards instead of giving up. */
+    private static void awaitUninterruptibly(CountDownLatch latch) {
+        boolean interrupted = false;
+        while (true) {
+            try {
+                latch.await();
+                break;
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) Thread.currentThread().interrupt();
+    }
+
+    /**
+     * Stops accepting tasks and waits for queued ones to finish.
+     *
+     * @param timeoutMillis maximum total wait
+     * @return {@code true} if every stripe drained in time
+     */
+    public boolean shutdown(long timeoutMillis) {
+        for (ExecutorService stripe : stripes) stripe.shutdown();
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        try {
+            for (ExecutorService stripe : stripes) {
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0 || !stripe.awaitTermination(remaining, TimeUnit.NANOSECONDS)) return false;
+            }
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -2,6 +2,11 @@ package io.github.mcengine.common.lang.database;
 
 import org.bukkit.entity.Player;
 
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
 /**
  * Contract for the MCEngine Lang database layer.
  *
@@ -23,6 +28,14 @@ import org.bukkit.entity.Player;
  *   <li>{@code player_uuid} is the player's {@link java.util.UUID#toString()}.</li>
  *   <li>{@code lang} holds the player's language tag (e.g., {@code en_US}, {@code en_GB}, {@code zh_TW}).</li>
  *   <li>Default language is {@code en_US} to match the requested schema.</li>
+ *   <li>SQL backends also keep an {@code updated_at BIGINT NOT NULL DEFAULT 0} row version (epoch millis,
+ *       taken from the database clock) set by every write, so callers can find rows changed since a
+ *       point with {@code WHERE updated_at >= ?}.</li>
+ *   <li>Per-player reads and writes other than {@link #getLang(Player)} report backend failures as
+ *       {@link MCEngineLangDBException} instead of silently returning a default.</li>
+ *   <li>Methods beyond the original {@code executeQuery}/{@code getValue}/{@code getLang}/{@code setLang}/
+ *       {@code changeLang} set have default implementations that report "unsupported" (error return
+ *       values or {@link MCEngineLangDBException}), so existing implementations keep compiling.</li>
  * </ul>
  * </p>
  */
@@ -48,6 +61,52 @@ public interface IMCEngineLangDB {
      */
     <T> T getValue(String query, Class<T> type);
 
+    /**
+     * Executes a parameterized non-returning command (DML/DDL).
+     * <p>
+     * SQL backends bind {@code params} to the {@code ?} placeholders of a cached prepared
+     * statement, so values never need to be concatenated into the SQL string.
+     * </p>
+     *
+     * @param sql    statement with {@code ?} placeholders
+     * @param params bound arguments, in placeholder order
+     * @return affected row count, or {@code -1} on error or if unsupported by the backend
+     */
+    default int executeUpdate(String sql, Object... params) {
+        return -1;
+    }
+
+    /**
+     * Executes a parameterized query that returns a single value (first column of the first row).
+     *
+     * @param sql    query with {@code ?} placeholders
+     * @param type   expected Java type ({@code String, Integer, Long, Double, Boolean})
+     * @param params bound arguments, in placeholder order
+     * @param <T>    generic return type
+     * @return value if present; otherwise {@code null} (always {@code null} if unsupported by the backend)
+     * @throws IllegalArgumentException if {@code type} is unsupported
+     */
+    default <T> T getValue(String sql, Class<T> type, Object... params) {
+        return null;
+    }
+
+    /**
+     * Executes a parameterized query and streams every row through {@code mapper} into {@code consumer}.
+     * <p>Rows are fetched {@code fetchSize} at a time and never materialized as a whole.</p>
+     *
+     * @param sql       query with {@code ?} placeholders
+     * @param fetchSize rows fetched per round trip (a hint for the driver; {@code 0} = driver default)
+     * @param mapper    converts the current row
+     * @param consumer  receives each mapped row, on the calling thread
+     * @param params    bound arguments, in placeholder order
+     * @param <T>       mapped row type
+     * @return number of rows streamed, or {@code -1} on error or if unsupported by the backend
+     */
+    default <T> long forEachRow(String sql, int fetchSize, IMCEngineLangRowMapper<T> mapper,
+                                Consumer<? super T> consumer, Object... params) {
+        return -1L;
+    }
+
     /**
      * Reads the player's language code from the {@code lang} table.
      *
@@ -56,20 +115,115 @@ public interface IMCEngineLangDB {
      */
     String getLang(Player player);
 
+    /**
+     * Reads the stored language code for a player UUID without requiring an online {@link Player}.
+     * <p>Used while the player is still logging in (e.g., during {@code AsyncPlayerPreLoginEvent}).</p>
+     *
+     * @param playerUuid player's unique id
+     * @return the stored language (e.g., {@code en_US}); {@code null} if no row exists
+     * @throws MCEngineLangDBException if the backend cannot be reached or the query fails, or does not support it
+     */
+    default String findLang(UUID playerUuid) {
+        throw new MCEngineLangDBException("findLang is not supported by " + getClass().getName(), null);
+    }
+
     /**
      * Sets (inserts or updates) the player's language code in the {@code lang} table.
      *
      * @param player    Bukkit player
      * @param langType  language code to persist (e.g., {@code en_US})
+     * @throws MCEngineLangDBException if the backend cannot be reached or the statement fails
      */
     void setLang(Player player, String langType);
 
+    /**
+     * Sets (inserts or updates) a player's language code by UUID, for players that may be offline.
+     *
+     * @param playerUuid player's unique id
+     * @param langType   language code to persist (e.g., {@code en_US})
+     * @throws MCEngineLangDBException if the backend cannot be reached or the statement fails, or does not support it
+     */
+    default void setLang(UUID playerUuid, String langType) {
+        throw new MCEngineLangDBException("setLang(UUID) is not supported by " + getClass().getName(), null);
+    }
+
     /**
      * Changes the player's language code only if the new value differs from the current.
      *
      * @param player       Bukkit player
      * @param newLangType  target language code (e.g., {@code en_US})
      * @return {@code true} if a change was applied; {@code false} if no row was updated or value unchanged
+     * @throws MCEngineLangDBException if the backend cannot be reached or the statement fails
      */
     boolean changeLang(Player player, String newLangType);
+
+    /**
+     * Deletes the player's stored language row, so the player falls back to the default again.
+     *
+     * @param playerUuid player's unique id
+     * @return {@code true} if a row was removed; {@code false} if none existed
+     * @throws MCEngineLangDBException if the backend cannot be reached or the statement fails, or does not support it
+     */
+    default boolean deleteLang(UUID playerUuid) {
+        throw new MCEngineLangDBException("deleteLang is not supported by " + getClass().getName(), null);
+    }
+
+    /**
+     * Streams every row of the {@code lang} table in ascending {@code player_uuid} order.
+     * <p>
+     * SQL backends use a forward-only, read-only cursor so memory stays bounded regardless
+     * of table size. Passing the last seen {@code player_uuid} as {@code afterUuid} resumes
+     * an interrupted scan.
+     * </p>
+     *
+     * @param afterUuid exclusive lower bound on {@code player_uuid}, or {@code null} to start at the beginning
+     * @param fetchSize rows fetched per round trip (a hint for the driver)
+     * @param consumer  receives {@code (player_uuid, lang)} for each row, on the calling thread
+     * @return number of rows streamed, or {@code -1} if the scan failed or is unsupported by the backend
+     */
+    default long forEachLang(String afterUuid, int fetchSize, BiConsumer<String, String> consumer) {
+        return -1L;
+    }
+
+    /**
+     * Upserts a batch of rows atomically (one transaction for SQL backends).
+     *
+     * @param rows {@code player_uuid → lang} rows to insert or update
+     * @return {@code true} if the whole batch was applied; {@code false} if nothing was applied
+     *         (always {@code false} if unsupported by the backend)
+     */
+    default boolean setLangs(Map<String, String> rows) {
+        return false;
+    }
+
+    /**
+     * Counts stored rows per language code (a full {@code GROUP BY lang} scan).
+     * <p>Expensive on large tables; callers should compute it once and maintain it incrementally.</p>
+     *
+     * @return {@code lang → row count} as stored (not normalized); {@code null} on error or if unsupported
+     */
+    default Map<String, Long> countLangs() {
+        return null;
+    }
+
+    /**
+     * Number of per-player operations this backend can run in parallel (e.g., pooled connections).
+     * <p>
+     * Callers that sequence writes per player use this many stripes, selected with
+     * {@link io.github.mcengine.common.lang.concurrent.MCEngineLangStripedExecutor#stripeOf}, so
+     * each stripe maps onto its own connection.
+     * </p>
+     *
+     * @return parallelism, at least 1 (default: {@code 1})
+     */
+    default int getWriteParallelism() {
+        return 1;
+    }
+
+    /**
+     * Releases backend resources (connections, files). The instance must not be used afterwards.
+     * <p>Default: nothing to release.</p>
+     */
+    default void close() {
+    }
 }
@@ -0,0 +1,23 @@
+package io.github.mcengine.common.lang.database;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Maps the current row of a {@link ResultSet} to a value.
+ *
+ * <p>Used by {@link IMCEngineLangDB#forEachRow} to stream multi-row results without
+ * materializing them. Implementations must not advance or close the result set.</p>
+ *
+ * @param <T> mapped row type
+ */
+@FunctionalInterface
+public interface IMCEngineLangRowMapper<T> {
+
+    /**
+     * @param rs result set positioned on the row to map
+     * @return mapped value
+     * @throws SQLException if a column cannot be read
+     */
+    T map(ResultSet rs) throws SQLException;
+}
@@ -0,0 +1,16 @@
+package io.github.mcengine.common.lang.database;
+
+/**
+ * Thrown by {@link IMCEngineLangDB} per-player operations when the backend cannot be reached
+ * or the statement fails, so callers can tell a failure apart from "no row".
+ */
+public final class MCEngineLangDBException extends RuntimeException {
+
+    /**
+     * @param message description of the failed operation
+     * @param cause   underlying driver exception, or {@code null}
+     */
+    public MCEngineLangDBException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
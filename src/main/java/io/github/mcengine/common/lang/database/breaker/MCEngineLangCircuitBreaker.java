@@ -0,0 +1,516 @@
+package io.github.mcengine.common.lang.database.breaker;
+
+import io.github.mcengine.common.lang.database.IMCEngineLangDB;
+import io.github.mcengine.common.lang.database.IMCEngineLangRowMapper;
+import io.github.mcengine.common.lang.database.MCEngineLangDBException;
+import io.github.mcengine.common.lang.database.deferred.MCEngineLangDeferredDB;
+import org.bukkit.entity.Player;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.*;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Circuit breaker around another {@link IMCEngineLangDB} backend.
+ *
+ * <p>
+ * The breaker trips (opens) after {@code failure-threshold} consecutive per-player calls that either
+ * failed with {@link MCEngineLangDBException} or took longer than {@code slow-call-ms}. Calls rejected
+ * because a {@link MCEngineLangDeferredDB} delegate is still initializing do not count. While open:
+ * </p>
+ * <ul>
+ *   <li>lookups are answered from the last known value of each player (or "no row" if unknown),
+ *       without touching the database;</li>
+ *   <li>writes are applied to the last known values and queued (latest write per player wins);</li>
+ *   <li>bulk and raw query methods fail fast with their documented error value;</li>
+ *   <li>a background task probes the backend every {@code probe-interval} seconds.</li>
+ * </ul>
+ * <p>
+ * When a probe succeeds the queued writes are replayed in order and the breaker closes again. If the
+ * probe fails and a backend factory was given, a fresh backend is built and probed instead (e.g., to
+ * replace dead connections, or a backend that could not connect at boot); on success it replaces the
+ * delegate. A recovery listener ({@link #setRecoveryListener(Runnable)}) then lets callers re-read values
+ * they cached while degraded.
+ * </p>
+ *
+ * <p>
+ * A failed call while closed is also absorbed: reads fall back to the last known value (and fail if there
+ * is none), and writes are queued. While the queue is not empty, every write goes through it, so a newer
+ * write can never be overtaken by a replayed older one; the same background task retries the queue until
+ * it is empty.
+ * </p>
+ *
+ * <p>Config ({@code database.circuit-breaker.*}):</p>
+ * <ul>
+ *   <li>{@code failure-threshold} → consecutive bad calls that trip the breaker (default: {@code 3})</li>
+ *   <li>{@code slow-call-ms} → calls slower than this count as bad (default: {@code 2000})</li>
+ *   <li>{@code probe-interval} → seconds between recovery probes (default: {@code 5})</li>
+ *   <li>{@code last-known-size} → players whose last value is remembered (default: {@code 10000})</li>
+ * </ul>
+ */
+public final class MCEngineLangCircuitBreaker implements IMCEngineLangDB {
+
+    /** Breaker states; {@code REPLAYING} is only used while recovering from {@code OPEN}. */
+    private enum State { CLOSED, OPEN, REPLAYING }
+
+    /** UUID looked up by recovery probes; no player has it. */
+    private static final UUID PROBE_UUID = new UUID(0L, 0L);
+
+    /** Language returned by {@link #getLang(Player)} when no row is known. */
+    private static final String DEFAULT_LANG = "en_US";
+
+    /** Marker stored for players known to have no row. */
+    private static final String NO_ROW = "";
+
+    /** A queued write; {@code lang == null} means delete. */
+    private record PendingWrite(UUID uuid, String lang) {}
+
+    /** Owning plugin for scheduling and logging. */
+    private final Plugin plugin;
+
+    /** Backend being protected; replaced when a rebuilt backend recovers. */
+    private volatile IMCEngineLangDB delegate;
+
+    /** Builds a fresh backend for recovery; {@code null} if the delegate cannot be rebuilt. */
+    private final Supplier<IMCEngineLangDB> factory;
+
+    /** Runs after the breaker closes again; {@code null} if none. */
+    private volatile Runnable recoveryListener;
+
+    /** Consecutive bad calls that trip the breaker. */
+    private final int failureThreshold;
+
+    /** Calls slower than this (nanoseconds) count as bad. */
+    private final long slowCallNanos;
+
+    /** Ticks between recovery probes. */
+    private final long probeIntervalTicks;
+
+    /** Last known stored value per player ({@link #NO_ROW} for none); LRU-bounded. */
+    private final Map<UUID, String> lastKnown;
+
+    /** Writes waiting for recovery, in order, latest per player; guarded by {@code this}. */
+    private final LinkedHashMap<UUID, PendingWrite> queued = new LinkedHashMap<>();
+
+    /** Current state; transitions happen while holding {@code this}. */
+    private volatile State state = State.CLOSED;
+
+    /**
+     * Whether writes queued while closed are being retried; the breaker stays closed meanwhile, but new
+     * writes and lookups still go through the queue. Changes while holding {@code this}.
+     */
+    private volatile boolean retrying;
+
+    /** Consecutive bad calls while closed. */
+    private int consecutiveFailures;
+
+    /** Recovery probe / queue retry task while open or while writes are queued; guarded by {@code this}. */
+    private BukkitTask probeTask;
+
+    /**
+     * @param plugin   Bukkit plugin instance (config, scheduler, logging)
+     * @param delegate backend to protect
+     */
+    public MCEngineLangCircuitBreaker(Plugin plugin, IMCEngineLangDB delegate) {
+        this(plugin, delegate, null);
+    }
+
+    /**
+     * @param plugin   Bukkit plugin instance (config, scheduler, logging)
+     * @param delegate backend to protect
+     * @param factory  builds a replacement backend when probes of the current one fail; {@code null} to only
+     *                 probe the current one. Must not be given for backends that own a file exclusively.
+     */
+    public MCEngineLangCircuitBreaker(Plugin plugin, IMCEngineLangDB delegate, Supplier<IMCEngineLangDB> factory) {
+        this.plugin = plugin;
+        this.delegate = delegate;
+        this.factory = factory;
+        this.failureThreshold = Math.max(1, plugin.getConfig().getInt("database.circuit-breaker.failure-threshold", 3));
+        this.slowCallNanos = plugin.getConfig().getLong("database.circuit-breaker.slow-call-ms", 2000L) * 1_000_000L;
+        this.probeIntervalTicks = Math.max(1L, plugin.getConfig().getLong("database.circuit-breaker.probe-interval", 5L)) * 20L;
+
+        final int lastKnownSize = Math.max(1, plugin.getConfig().getInt("database.circuit-breaker.last-known-size", 10_000));
+        this.lastKnown = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<UUID, String> eldest) {
+                return size() > lastKnownSize;
+            }
+        });
+    }
+
+    /** @return {@code true} while the backend is considered unavailable (open, or replaying after being open) */
+    public boolean isOpen() {
+        return state != State.CLOSED;
+    }
+
+    /** @return number of writes waiting for the backend to recover */
+    public synchronized int getQueuedWrites() {
+        return queued.size();
+    }
+
+    /** @return the protected backend */
+    public IMCEngineLangDB getDelegate() {
+        return delegate;
+    }
+
+    /**
+     * Sets a task to run (on the probe thread) each time the breaker closes again after being open.
+     *
+     * @param listener task to run, or {@code null} for none
+     */
+    public void setRecoveryListener(Runnable listener) {
+        this.recoveryListener = listener;
+    }
+
+    // ------------------------------
+    // Per-player operations
+    // ------------------------------
+
+    /** {@inheritDoc} */
+    @Override
+    public String getLang(Player player) {
+        String lang = findLang(player.getUniqueId());
+        return lang == null ? DEFAULT_LANG : lang;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String findLang(UUID playerUuid) {
+        if (state != State.CLOSED || retrying || isQueued(playerUuid)) return known(playerUuid);
+        long started = System.nanoTime();
+        try {
+            String lang = delegate.findLang(playerUuid);
+            onSuccess(started);
+            lastKnown.put(playerUuid, lang == null ? NO_ROW : lang);
+            return lang;
+        } catch (MCEngineLangDBException e) {
+            onFailure();
+            if (!lastKnown.containsKey(playerUuid)) throw e;
+            return known(playerUuid);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void setLang(Player player, String langType) {
+        setLang(player.getUniqueId(), langType);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void setLang(UUID playerUuid, String langType) {
+        if (!queueIfDegraded(new PendingWrite(playerUuid, langType))) {
+            long started = System.nanoTime();
+            try {
+                delegate.setLang(playerUuid, langType);
+                onSuccess(started);
+            } catch (MCEngineLangDBException e) {
+                onFailure();
+                queueAndRetry(new PendingWrite(playerUuid, langType));
+            }
+        }
+        lastKnown.put(playerUuid, langType);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean changeLang(Player player, String newLangType) {
+        UUID uuid = player.getUniqueId();
+        boolean differs = !newLangType.equals(lastKnown.get(uuid));
+        if (queueIfDegraded(new PendingWrite(uuid, newLangType))) {
+            lastKnown.put(uuid, newLangType);
+            return differs;
+        }
+
+        long started = System.nanoTime();
+        try {
+            boolean changed = delegate.changeLang(player, newLangType);
+            onSuccess(started);
+            lastKnown.put(uuid, newLangType);
+            return changed;
+        } catch (MCEngineLangDBException e) {
+            onFailure();
+            queueAndRetry(new PendingWrite(uuid, newLangType));
+            lastKnown.put(uuid, newLangType);
+            return differs;
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean deleteLang(UUID playerUuid) {
+        String before = lastKnown.get(playerUuid);
+        boolean hadRow = before != null && !before.isEmpty();
+        if (queueIfDegraded(new PendingWrite(playerUuid, null))) {
+            lastKnown.put(playerUuid, NO_ROW);
+            return hadRow;
+        }
+
+        long started = System.nanoTime();
+        try {
+            boolean removed = delegate.deleteLang(playerUuid);
+            onSuccess(started);
+            lastKnown.put(playerUuid, NO_ROW);
+            return removed;
+        } catch (MCEngineLangDBException e) {
+            onFailure();
+            queueAndRetry(new PendingWrite(playerUuid, null));
+            lastKnown.put(playerUuid, NO_ROW);
+            return hadRow;
+        }
+    }
+
+    // ------------------------------
+    // Bulk and raw operations (fail fast while open)
+    // ------------------------------
+
+    /** {@inheritDoc} */
+    @Override
+    public void executeQuery(String query) {
+        if (state == State.CLOSED) delegate.executeQuery(query);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public <T> T getValue(String query, Class<T> type) {
+        return state == State.CLOSED ? delegate.getValue(query, type) : null;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int executeUpdate(String sql, Object... params) {
+        return state == State.CLOSED ? delegate.executeUpdate(sql, params) : -1;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public <T> T getValue(String sql, Class<T> type, Object... params) {
+        return state == State.CLOSED ? delegate.getValue(sql, type, params) : null;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public <T> long forEachRow(String sql, int fetchSize, IMCEngineLangRowMapper<T> mapper,
+                               Consumer<? super T> consumer, Object... params) {
+        return state == State.CLOSED ? delegate.forEachRow(sql, fetchSize, mapper, consumer, params) : -1;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public long forEachLang(String afterUuid, int fetchSize, BiConsumer<String, String> consumer) {
+        return state == State.CLOSED ? delegate.forEachLang(afterUuid, fetchSize, consumer) : -1;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean setLangs(Map<String, String> rows) {
+        return state == State.CLOSED && delegate.setLangs(rows);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Map<String, Long> countLangs() {
+        return state == State.CLOSED ? delegate.countLangs() : null;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int getWriteParallelism() {
+        return delegate.getWriteParallelism();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void close() {
+        synchronized (this) {
+            stopProbing();
+            if (!queued.isEmpty()) {
+                plugin.getLogger().warning("Lang circuit breaker closing with " + queued.size()
+                        + " queued writes that never reached the database.");
+            }
+        }
+        delegate.close();
+    }
+
+    // ------------------------------
+    // State handling
+    // ------------------------------
+
+    /** Whether the delegate is a backend still being created ("not ready yet" is not a failure). */
+    private boolean initializing() {
+        return delegate instanceof MCEngineLangDeferredDB deferred && deferred.isInitializing();
+    }
+
+    /** Returns the last known stored value, or {@code null} for "no row"/unknown. */
+    private String known(UUID playerUuid) {
+        String lang = lastKnown.get(playerUuid);
+        return lang == null || lang.isEmpty() ? null : lang;
+    }
+
+    /**
+     * Queues the write if the breaker is not closed or older writes are still queued or being retried (so
+     * it cannot be overtaken by their replay); returns {@code true} if it was queued.
+     */
+    private synchronized boolean queueIfDegraded(PendingWrite write) {
+        if (state == State.CLOSED && !retrying && queued.isEmpty()) return false;
+        queue(write);
+        return true;
+    }
+
+    /** Queues a write that failed while closed and makes sure the queue is retried in the background. */
+    private synchronized void queueAndRetry(PendingWrite write) {
+        queue(write);
+        startProbing();
+    }
+
+    /** Starts the probe / retry task unless it is already running. */
+    private synchronized void startProbing() {
+        if (probeTask != null) return;
+        probeTask = plugin.getServer().getScheduler()
+                .runTaskTimerAsynchronously(plugin, this::probe, probeIntervalTicks, probeIntervalTicks);
+    }
+
+    /** Returns {@code true} if a write for the player is waiting in the queue (its value is the last known one). */
+    private synchronized boolean isQueued(UUID playerUuid) {
+        return queued.containsKey(playerUuid);
+    }
+
+    /** Queues a write, replacing any older queued write for the same player. */
+    private synchronized void queue(PendingWrite write) {
+        queued.remove(write.uuid());
+        queued.put(write.uuid(), write);
+    }
+
+    /** Records a successful call; slow calls still count towards tripping. */
+    private synchronized void onSuccess(long startedNanos) {
+        if (System.nanoTime() - startedNanos > slowCallNanos) {
+            onFailure();
+        } else {
+            consecutiveFailures = 0;
+        }
+    }
+
+    /** Records a bad call and trips the breaker once the threshold is reached. */
+    private synchronized void onFailure() {
+        if (state != State.CLOSED || initializing()) return;
+        if (++consecutiveFailures < failureThreshold) return;
+
+        state = State.OPEN;
+        consecutiveFailures = 0;
+        plugin.getLogger().warning("Lang database unavailable; serving last known languages and queueing writes.");
+        startProbing();
+    }
+
+    /**
+     * While open, checks the backend (rebuilding it if possible) and on success replays queued writes and
+     * closes the breaker. While closed, retries writes queued after a failed call.
+     */
+    private void probe() {
+        State from;
+        synchronized (this) {
+            from = state;
+            if (from == State.REPLAYING || retrying) return;
+            if (from == State.CLOSED && queued.isEmpty()) {
+                stopProbing();
+                return;
+            }
+        }
+        if (from == State.OPEN && !healthy(delegate) && !rebuild()) return;
+
+        synchronized (this) {
+            if (state != from) return;
+            if (from == State.OPEN) state = State.REPLAYING;
+            else retrying = true; // a routine retry does not report the backend as unavailable
+        }
+        if (replay(from) && from == State.OPEN) {
+            Runnable listener = recoveryListener;
+            if (listener != null) listener.run();
+        }
+    }
+
+    /** Returns {@code true} if the backend answers a lookup quickly. */
+    private boolean healthy(IMCEngineLangDB backend) {
+        long started = System.nanoTime();
+        try {
+            backend.findLang(PROBE_UUID);
+        } catch (MCEngineLangDBException e) {
+            return false;
+        }
+        return System.nanoTime() - started <= slowCallNanos;
+    }
+
+    /** Builds a fresh backend and, if it is healthy, replaces the delegate with it. */
+    private boolean rebuild() {
+        if (factory == null) return false;
+        IMCEngineLangDB fresh;
+        try {
+            fresh = factory.get();
+        } catch (RuntimeException e) {
+            return false;
+        }
+        if (!healthy(fresh)) {
+            fresh.close();
+            return false;
+        }
+        IMCEngineLangDB old = delegate;
+        delegate = fresh;
+        old.close();
+        plugin.getLogger().info("Lang database backend reconnected.");
+        return true;
+    }
+
+    /** Cancels the probe / retry task; caller holds {@code this}. */
+    private void stopProbing() {
+        if (probeTask != null) probeTask.cancel();
+        probeTask = null;
+    }
+
+    /**
+     * Applies queued writes in order; closes the breaker once the queue is empty. A retry that started
+     * closed leaves the state alone, so a trip by other calls meanwhile is kept.
+     *
+     * @param from state the replay started from ({@code OPEN}, or {@code CLOSED} for a retry)
+     * @return {@code true} if the queue was drained
+     */
+    private boolean replay(State from) {
+        int replayed = 0;
+        while (true) {
+            PendingWrite write;
+            synchronized (this) {
+                Iterator<PendingWrite> it = queued.values().iterator();
+                if (!it.hasNext()) {
+                    if (from == State.OPEN) state = State.CLOSED;
+                    retrying = false;
+                    if (state == State.CLOSED) {
+                        consecutiveFailures = 0;
+                        stopProbing();
+                    }
+                    break;
+                }
+                write = it.next();
+                it.remove();
+            }
+            try {
+                if (write.lang() == null) delegate.deleteLang(write.uuid());
+                else delegate.setLang(write.uuid(), write.lang());
+                replayed++;
+            } catch (MCEngineLangDBException e) {
+                synchronized (this) {
+                    // Keep the write unless a newer one for the same player arrived meanwhile.
+                    queued.putIfAbsent(write.uuid(), write);
+                    if (from == State.OPEN) state = State.OPEN;
+                    retrying = false;
+                }
+                if (from == State.CLOSED) onFailure();
+                return false;
+            }
+        }
+        if (from == State.OPEN) {
+            plugin.getLogger().info("Lang database recovered; replayed " + replayed + " queued writes.");
+        }
+        return true;
+    }
+}
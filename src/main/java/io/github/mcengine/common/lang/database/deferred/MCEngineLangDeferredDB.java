@@ -0,0 +1,278 @@
+package io.github.mcengine.common.lang.database.deferred;
+
+import io.github.mcengine.common.lang.database.IMCEngineLangDB;
+import io.github.mcengine.common.lang.database.IMCEngineLangRowMapper;
+import io.github.mcengine.common.lang.database.MCEngineLangDBException;
+import org.bukkit.entity.Player;
+import org.bukkit.plugin.Plugin;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Stand-in for a backend that is still being created on a background thread.
+ *
+ * <p>
+ * Backends such as MySQL and PostgreSQL connect and check their schema in their constructors. This
+ * class runs that constructor on a daemon thread ({@code MCEngineLang-init}), so plugin enable does
+ * not wait for the database, and forwards every call once {@link #getReady()} has completed.
+ * </p>
+ *
+ * <p>Calls made before the backend is ready wait a bounded time and then degrade:</p>
+ * <ul>
+ *   <li>lookups wait up to {@code init-wait-ms} (never on the server thread); afterwards
+ *       {@link #findLang(UUID)} throws {@link MCEngineLangDBException} and {@link #getLang(Player)}
+ *       returns the default language;</li>
+ *   <li>writes run on the write sequencer's threads and wait up to {@code init-timeout} seconds, so they
+ *       are effectively queued in order until the backend is ready;</li>
+ *   <li>bulk and raw query methods wait up to {@code init-timeout} seconds, then return their documented
+ *       error value.</li>
+ * </ul>
+ *
+ * <p>Config ({@code database.*}):</p>
+ * <ul>
+ *   <li>{@code async-init} → create the backend in the background (default: {@code true})</li>
+ *   <li>{@code init-wait-ms} → how long a lookup waits for the backend (default: {@code 1000})</li>
+ *   <li>{@code init-timeout} → how long writes and raw queries wait, in seconds (default: {@code 30})</li>
+ * </ul>
+ */
+public final class MCEngineLangDeferredDB implements IMCEngineLangDB {
+
+    /** Language returned by {@link #getLang(Player)} while the backend is not ready. */
+    private static final String DEFAULT_LANG = "en_US";
+
+    /** Owning plugin for configuration and logging. */
+    private final Plugin plugin;
+
+    /** Completed with the backend once it has been created. */
+    private final CompletableFuture<IMCEngineLangDB> ready = new CompletableFuture<>();
+
+    /** Write parallelism reported until the backend is ready. */
+    private final int writeParallelism;
+
+    /** How long a lookup waits for the backend, in milliseconds. */
+    private final long lookupWaitMillis;
+
+    /** How long writes and raw queries wait for the backend, in milliseconds. */
+    private final long initTimeoutMillis;
+
+    /** Set by {@link #close()}; a backend that arrives afterwards is closed immediately. */
+    private volatile boolean closed;
+
+    /**
+     * Starts creating the backend in the background.
+     *
+     * @param plugin           Bukkit plugin instance (config, logging)
+     * @param type             backend type, for log messages
+     * @param factory          creates and connects the backend
+     * @param writeParallelism value reported by {@link #getWriteParallelism()} before the backend is
+     *                         ready; should match what the backend will report
+     */
+    public MCEngineLangDeferredDB(Plugin plugin, String type, Supplier<IMCEngineLangDB> factory, int writeParallelism) {
+        this.plugin = plugin;
+        this.writeParallelism = Math.max(1, writeParallelism);
+        this.lookupWaitMillis = Math.max(0L, plugin.getConfig().getLong("database.init-wait-ms", 1000L));
+        this.initTimeoutMillis = Math.max(0L, plugin.getConfig().getLong("database.init-timeout", 30L)) * 1000L;
+
+        Thread init = new Thread(() -> {
+            long started = System.nanoTime();
+            try {
+                IMCEngineLangDB backend = factory.get();
+                if (closed) {
+                    backend.close();
+                    ready.completeExceptionally(new IllegalStateException("closed before ready"));
+                    return;
+                }
+                ready.complete(backend);
+                plugin.getLogger().info(String.format("Lang database (%s) ready after %.0f ms.",
+                        type, (System.nanoTime() - started) / 1e6));
+            } catch (RuntimeException e) {
+                plugin.getLogger().severe("Lang database (" + type + ") init failed: " + e.getMessage());
+                ready.completeExceptionally(e);
+            }
+        }, "MCEngineLang-init");
+        init.setDaemon(true);
+        init.start();
+    }
+
+    /** @return future completed with the backend once it is ready (exceptionally if creation failed) */
+    public CompletableFuture<IMCEngineLangDB> getReady() {
+        return ready;
+    }
+
+    /** @return {@code true} once the backend has been created successfully */
+    public boolean isReady() {
+        return ready.isDone() && !ready.isCompletedExceptionally();
+    }
+
+    /** @return {@code true} while the backend is still being created (neither ready nor failed) */
+    public boolean isInitializing() {
+        return !ready.isDone();
+    }
+
+    // ------------------------------
+    // Per-player operations
+    // ------------------------------
+
+    /** {@inheritDoc} */
+    @Override
+    public String getLang(Player player) {
+        IMCEngineLangDB backend = await(lookupWait());
+        return backend == null ? DEFAULT_LANG : backend.getLang(player);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String findLang(UUID playerUuid) {
+        return required(lookupWait()).findLang(playerUuid);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void setLang(Player player, String langType) {
+        required(initTimeoutMillis).setLang(player, langType);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void setLang(UUID playerUuid, String langType) {
+        required(initTimeoutMillis).setLang(playerUuid, langType);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean changeLang(Player player, String newLangType) {
+        return required(initTimeoutMillis).changeLang(player, newLangType);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean deleteLang(UUID playerUuid) {
+        return required(initTimeoutMillis).deleteLang(playerUuid);
+    }
+
+    // ------------------------------
+    // Bulk and raw operations
+    // ------------------------------
+
+    /** {@inheritDoc} */
+    @Override
+    public void executeQuery(String query) {
+        IMCEngineLangDB backend = await(initTimeoutMillis);
+        if (backend == null) {
+            plugin.getLogger().warning("Lang database not ready; query skipped: " + query);
+            return;
+        }
+        backend.executeQuery(query);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public <T> T getValue(String query, Class<T> type) {
+        IMCEngineLangDB backend = await(initTimeoutMillis);
+        return backend == null ? null : backend.getValue(query, type);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int executeUpdate(String sql, Object... params) {
+        IMCEngineLangDB backend = await(initTimeoutMillis);
+        return backend == null ? -1 : backend.executeUpdate(sql, params);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public <T> T getValue(String sql, Class<T> type, Object... params) {
+        IMCEngineLangDB backend = await(initTimeoutMillis);
+        return backend == null ? null : backend.getValue(sql, type, params);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public <T> long forEachRow(String sql, int fetchSize, IMCEngineLangRowMapper<T> mapper,
+                               Consumer<? super T> consumer, Object... params) {
+        IMCEngineLangDB backend = await(initTimeoutMillis);
+        return backend == null ? -1 : backend.forEachRow(sql, fetchSize, mapper, consumer, params);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public long forEachLang(String afterUuid, int fetchSize, BiConsumer<String, String> consumer) {
+        IMCEngineLangDB backend = await(initTimeoutMillis);
+        return backend == null ? -1 : backend.forEachLang(afterUuid, fetchSize, consumer);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean setLangs(Map<String, String> rows) {
+        IMCEngineLangDB backend = await(initTimeoutMillis);
+        return backend != null && backend.setLangs(rows);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Map<String, Long> countLangs() {
+        IMCEngineLangDB backend = await(initTimeoutMillis);
+        return backend == null ? null : backend.countLangs();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int getWriteParallelism() {
+        IMCEngineLangDB backend = current();
+        return backend == null ? writeParallelism : backend.getWriteParallelism();
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>If the backend is still being created, it is closed as soon as it arrives.</p>
+     */
+    @Override
+    public void close() {
+        closed = true;
+        IMCEngineLangDB backend = current();
+        if (backend != null) backend.close();
+    }
+
+    // ------------------------------
+    // Readiness
+    // ------------------------------
+
+    /** Lookups never wait on the server thread. */
+    private long lookupWait() {
+        return plugin.getServer().isPrimaryThread() ? 0L : lookupWaitMillis;
+    }
+
+    /** Returns the backend if it was created successfully; {@code null} while pending or after a failed init. */
+    private IMCEngineLangDB current() {
+        return isReady() ? ready.join() : null;
+    }
+
+    /** Returns the backend, waiting up to {@code waitMillis} for it; {@code null} if it is not ready. */
+    private IMCEngineLangDB await(long waitMillis) {
+        IMCEngineLangDB backend = current();
+        if (backend != null || ready.isDone() || waitMillis <= 0) return backend;
+        try {
+            return ready.get(waitMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException | ExecutionException e) {
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+    }
+
+    /** Like {@link #await(long)}, but reports a missing backend as {@link MCEngineLangDBException}. */
+    private IMCEngineLangDB required(long waitMillis) {
+        IMCEngineLangDB backend = await(waitMillis);
+        if (backend == null) throw new MCEngineLangDBException("Lang database is not ready", null);
+        return backend;
+    }
+}
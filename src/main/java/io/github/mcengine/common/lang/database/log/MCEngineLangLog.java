@@ -0,0 +1,537 @@
+package io.github.mcengine.common.lang.database.log;
+
+import io.github.mcengine.common.lang.database.IMCEngineLangDB;
+import io.github.mcengine.common.lang.database.IMCEngineLangRowMapper;
+import io.github.mcengine.common.lang.database.MCEngineLangDBException;
+import org.bukkit.entity.Player;
+import org.bukkit.plugin.Plugin;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.zip.CRC32;
+
+/**
+ * Append-only, log-structured implementation of the Lang database ({@code database.type: log}).
+ *
+ * <p>
+ * Every change is appended to a log file as a fixed-size {@value #RECORD_SIZE}-byte record:
+ * </p>
+ * <pre>
+ * op (1) | uuid msb (8) | uuid lsb (8) | lang length (1) | lang UTF-8, zero padded (32) | crc32 (4) | padding
+ * </pre>
+ *
+ * <p>
+ * Reads are served from an in-memory index that is rebuilt on startup by replaying the memory-mapped
+ * log; a torn or corrupt tail (e.g., after a crash) is truncated. Writes update the index and are
+ * queued for a single writer thread, which appends whatever has accumulated as one sequential write
+ * followed by one {@code fsync} (group commit). When superseded records exceed the configured share of
+ * the log, the writer rewrites the live set into a fresh file and atomically swaps it in.
+ * </p>
+ *
+ * <p>Config:</p>
+ * <ul>
+ *   <li>{@code database.log.path} → log file in plugin data folder (default: {@code lang.log})</li>
+ *   <li>{@code database.log.fsync} → sync after every appended group (default: {@code true})</li>
+ *   <li>{@code database.log.compaction-threshold} → garbage ratio that triggers compaction (default: {@code 0.5})</li>
+ *   <li>{@code database.log.compaction-min-records} → log size below which compaction never runs (default: {@code 10000})</li>
+ * </ul>
+ *
+ * <p>
+ * Writes return once queued; a crash loses at most the group being written. A group whose append fails is
+ * cut back to the last full record and retried; if the log cannot even be cut back, the backend stops
+ * accepting writes. Raw and parameterized SQL
+ * ({@code executeQuery}, {@code getValue}, {@code executeUpdate}, {@code forEachRow}) is not supported.
+ * </p>
+ */
+public final class MCEngineLangLog implements IMCEngineLangDB {
+
+    /** Identifies log files written by this class. */
+    private static final int LOG_MAGIC = 0x4C4C4F47; // "LLOG"
+
+    /** Log format version. */
+    private static final int LOG_VERSION = 1;
+
+    /** Bytes before the first record. */
+    private static final int HEADER_SIZE = 16;
+
+    /** Bytes per record. */
+    private static final int RECORD_SIZE = 64;
+
+    /** Maximum UTF-8 bytes of a language code (matches {@code VARCHAR(32)} of the SQL schema). */
+    private static final int MAX_LANG_BYTES = 32;
+
+    /** Bytes covered by the record checksum. */
+    private static final int CRC_OFFSET = 1 + 16 + 1 + MAX_LANG_BYTES;
+
+    /** Record op: put {@code uuid → lang}. */
+    private static final byte OP_PUT = 1;
+
+    /** Record op: delete {@code uuid}. */
+    private static final byte OP_DELETE = 2;
+
+    /** Language returned by {@link #getLang(Player)} when no row exists. */
+    private static final String DEFAULT_LANG = "en_US";
+
+    /** Pause before retrying a group whose append failed. */
+    private static final long RETRY_MILLIS = 1000L;
+
+    /** Queue element that tells the writer thread to stop. */
+    private static final ByteBuffer STOP = ByteBuffer.allocate(0);
+
+    /** Owning plugin for configuration and logging. */
+    private final Plugin plugin;
+
+    /** Log file in the plugin data folder. */
+    private final File logFile;
+
+    /** Whether every appended group is followed by an fsync. */
+    private final boolean fsync;
+
+    /** Garbage ratio that triggers compaction. */
+    private final double compactionThreshold;
+
+    /** Log size (records) below which compaction never runs. */
+    private final long compactionMinRecords;
+
+    /** Live rows: the latest value of every non-deleted UUID. */
+    private final Map<UUID, String> index = new ConcurrentHashMap<>();
+
+    /** Encoded records waiting for the writer thread. */
+    private final BlockingQueue<ByteBuffer> pending = new LinkedBlockingQueue<>();
+
+    /** Records currently in the log file (live + superseded); writer thread only after startup. */
+    private long totalRecords;
+
+    /** Append channel; replaced by compaction, never closed before its replacement is open. Writer thread only after startup. */
+    private FileChannel channel;
+
+    /** Set once the log could not be restored to a record boundary; writes fail from then on. */
+    private volatile IOException failure;
+
+    /** Single thread that appends, syncs and compacts. */
+    private final Thread writer;
+
+    /**
+     * Replays the log into memory and starts the writer thread.
+     *
+     * @param plugin Bukkit plugin instance
+     * @throws IllegalStateException if the log cannot be opened or replayed (writes would otherwise be lost)
+     */
+    public MCEngineLangLog(Plugin plugin) {
+        this.plugin = plugin;
+        String fileName = plugin.getConfig().getString("database.log.path", "lang.log");
+        this.logFile = new File(plugin.getDataFolder(), fileName);
+        this.fsync = plugin.getConfig().getBoolean("database.log.fsync", true);
+        this.compactionThreshold = plugin.getConfig().getDouble("database.log.compaction-threshold", 0.5);
+        this.compactionMinRecords = plugin.getConfig().getLong("database.log.compaction-min-records", 10_000L);
+
+        try {
+            File parent = logFile.getAbsoluteFile().getParentFile();
+            if (parent != null) parent.mkdirs();
+            this.channel = openLog(logFile);
+        } catch (IOException e) {
+            throw new IllegalStateException("Log (Lang) open/replay failed for " + logFile.getAbsolutePath(), e);
+        }
+
+        this.writer = new Thread(this::writeLoop, "MCEngineLang-log-writer");
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void executeQuery(String query) {
+        unsupported("executeQuery");
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public <T> T getValue(String query, Class<T> type) {
+        unsupported("getValue");
+        return null;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int executeUpdate(String sql, Object... params) {
+        unsupported("executeUpdate");
+        return -1;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public <T> T getValue(String sql, Class<T> type, Object... params) {
+        unsupported("getValue");
+        return null;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public <T> long forEachRow(String sql, int fetchSize, IMCEngineLangRowMapper<T> mapper,
+                               Consumer<? super T> consumer, Object... params) {
+        unsupported("forEachRow");
+        return -1;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String getLang(Player player) {
+        return index.getOrDefault(player.getUniqueId(), DEFAULT_LANG);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String findLang(UUID playerUuid) {
+        return index.get(playerUuid);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void setLang(Player player, String langType) {
+        put(player.getUniqueId(), langType);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void setLang(UUID playerUuid, String langType) {
+        put(playerUuid, langType);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public synchronized boolean changeLang(Player player, String newLangType) {
+        if (newLangType.equals(index.get(player.getUniqueId()))) return false;
+        return put(player.getUniqueId(), newLangType);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public synchronized boolean deleteLang(UUID playerUuid) {
+        requireWritable();
+        if (index.remove(playerUuid) == null) return false;
+        pending.add(encode(OP_DELETE, playerUuid, null));
+        return true;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public long forEachLang(String afterUuid, int fetchSize, BiConsumer<String, String> consumer) {
+        TreeMap<String, String> sorted = new TreeMap<>();
+        index.forEach((uuid, lang) -> sorted.put(uuid.toString(), lang));
+        Map<String, String> view = afterUuid == null ? sorted : sorted.tailMap(afterUuid, false);
+        long count = 0;
+        for (Map.Entry<String, String> row : view.entrySet()) {
+            consumer.accept(row.getKey(), row.getValue());
+            count++;
+        }
+        return count;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public synchronized boolean setLangs(Map<String, String> rows) {
+        if (failure != null) return false;
+        Map<UUID, String> parsed = new LinkedHashMap<>();
+        for (Map.Entry<String, String> row : rows.entrySet()) {
+            try {
+                parsed.put(UUID.fromString(row.getKey()), row.getValue());
+            } catch (IllegalArgumentException e) {
+                plugin.getLogger().warning("Log (Lang) setLangs rejected batch, invalid player_uuid: " + row.getKey());
+                return false;
+            }
+            if (row.getValue().getBytes(StandardCharsets.UTF_8).length > MAX_LANG_BYTES) {
+                plugin.getLogger().warning("Log (Lang) setLangs rejected batch, language longer than "
+                        + MAX_LANG_BYTES + " bytes: " + row.getValue());
+                return false;
+            }
+        }
+        parsed.forEach(this::put);
+        return true;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Map<String, Long> countLangs() {
+        Map<String, Long> out = new HashMap<>();
+        for (String lang : index.values()) out.merge(lang, 1L, Long::sum);
+        return out;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int getWriteParallelism() {
+        return 1;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void close() {
+        pending.add(STOP);
+        try {
+            writer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        try {
+            channel.force(false);
+            channel.close();
+        } catch (IOException e) {
+            plugin.getLogger().warning("Log (Lang) close failed: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Updates the index and queues the record; the lock keeps index and log order identical.
+     *
+     * @throws MCEngineLangDBException if the language does not fit a record or the log stopped accepting writes
+     */
+    private synchronized boolean put(UUID uuid, String lang) {
+        requireWritable();
+        if (lang.getBytes(StandardCharsets.UTF_8).length > MAX_LANG_BYTES) {
+            throw new MCEngineLangDBException("Log (Lang) rejected language longer than " + MAX_LANG_BYTES
+                    + " bytes: " + lang, null);
+        }
+        index.put(uuid, lang);
+        pending.add(encode(OP_PUT, uuid, lang));
+        return true;
+    }
+
+    /** @throws MCEngineLangDBException once a failed append left the log unusable */
+    private void requireWritable() {
+        IOException failed = failure;
+        if (failed != null) throw new MCEngineLangDBException("Log (Lang) is not writable after a failed append", failed);
+    }
+
+    // ------------------------------
+    // Writer thread
+    // ------------------------------
+
+    /**
+     * Appends queued records in groups, syncing once per group, and compacts when needed. A group whose
+     * append failed is kept and retried (together with newer records) until it is written, the log becomes
+     * unusable or the backend is closed.
+     */
+    private void writeLoop() {
+        List<ByteBuffer> group = new ArrayList<>();
+        boolean running = true;
+        while (running) {
+            if (group.isEmpty()) {
+                try {
+                    group.add(pending.take());
+                } catch (InterruptedException e) {
+                    break;
+                }
+            }
+            pending.drainTo(group);
+            if (group.remove(STOP)) running = false;
+            if (group.isEmpty()) continue;
+
+            try {
+                append(group);
+                group.clear();
+            } catch (IOException e) {
+                plugin.getLogger().warning("Log (Lang) append of " + group.size() + " records failed"
+                        + (failure == null && running ? ", retrying: " : ": ") + e.getMessage());
+                if (failure != null) break;
+                if (running) {
+                    try {
+                        Thread.sleep(RETRY_MILLIS);
+                    } catch (InterruptedException ie) {
+                        break;
+                    }
+                }
+                continue;
+            }
+            try {
+                maybeCompact();
+            } catch (IOException e) {
+                plugin.getLogger().warning("Log (Lang) compaction failed, continuing on the current log: " + e.getMessage());
+            }
+        }
+        if (!group.isEmpty()) {
+            plugin.getLogger().warning("Log (Lang) dropped " + group.size() + " unwritten records");
+        }
+    }
+
+    /**
+     * Writes a group of records with one sequential write and at most one fsync. On failure the log is cut
+     * back to where the group started, so later records stay aligned; if that fails too, {@link #failure}
+     * is set.
+     */
+    private void append(List<ByteBuffer> group) throws IOException {
+        long start = channel.position();
+        ByteBuffer buf = ByteBuffer.allocate(group.size() * RECORD_SIZE);
+        for (ByteBuffer record : group) buf.put(record.duplicate());
+        buf.flip();
+        try {
+            while (buf.hasRemaining()) channel.write(buf);
+            if (fsync) channel.force(false);
+        } catch (IOException e) {
+            try {
+                channel.truncate(start);
+                channel.position(start);
+            } catch (IOException restore) {
+                e.addSuppressed(restore);
+                failure = e;
+            }
+            throw e;
+        }
+        totalRecords += group.size();
+    }
+
+    /**
+     * Rewrites the live set when superseded records exceed the threshold. The compacted file's channel is
+     * opened before it replaces the log, and the old channel is only closed after a successful swap; if
+     * anything fails, appends continue on the old log.
+     */
+    private void maybeCompact() throws IOException {
+        long live = index.size();
+        if (totalRecords < compactionMinRecords) return;
+        if ((double) (totalRecords - live) / totalRecords < compactionThreshold) return;
+
+        long started = System.nanoTime();
+        File tmp = new File(logFile.getPath() + ".compact");
+        Map<UUID, String> snapshot = new HashMap<>(index);
+        FileChannel out = FileChannel.open(tmp.toPath(), StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+        try {
+            out.write(header());
+            ByteBuffer buf = ByteBuffer.allocate(RECORD_SIZE * 1024);
+            for (Map.Entry<UUID, String> row : snapshot.entrySet()) {
+                if (!buf.hasRemaining()) {
+                    buf.flip();
+                    while (buf.hasRemaining()) out.write(buf);
+                    buf.clear();
+                }
+                buf.put(encode(OP_PUT, row.getKey(), row.getValue()));
+            }
+            buf.flip();
+            while (buf.hasRemaining()) out.write(buf);
+            out.force(true);
+            Files.move(tmp.toPath(), logFile.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            out.close();
+            Files.deleteIfExists(tmp.toPath());
+            plugin.getLogger().warning("Log (Lang) compaction failed, continuing on the current log: " + e.getMessage());
+            return;
+        }
+
+        FileChannel old = channel;
+        channel = out; // positioned after the last compacted record
+        try {
+            old.close();
+        } catch (IOException e) {
+            plugin.getLogger().warning("Log (Lang) could not close the pre-compaction log: " + e.getMessage());
+        }
+        long before = totalRecords;
+        totalRecords = snapshot.size();
+        plugin.getLogger().info("Log (Lang) compacted " + before + " -> " + totalRecords + " records in "
+                + ((System.nanoTime() - started) / 1_000_000L) + "ms");
+    }
+
+    // ------------------------------
+    // Replay and encoding
+    // ------------------------------
+
+    /**
+     * Opens (or creates) the log, replays it into the index and returns an append channel
+     * positioned after the last valid record.
+     */
+    private FileChannel openLog(File file) throws IOException {
+        FileChannel ch = FileChannel.open(file.toPath(), StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        long size = ch.size();
+        if (size == 0) {
+            ch.write(header());
+            ch.force(true);
+            return ch;
+        }
+        if (size < HEADER_SIZE) throw new IOException("log file too short: " + size + " bytes");
+
+        long started = System.nanoTime();
+        MappedByteBuffer map = ch.map(FileChannel.MapMode.READ_ONLY, 0, size);
+        if (map.getInt(0) != LOG_MAGIC) throw new IOException("not a Lang log file");
+        int version = map.getInt(4);
+        if (version != LOG_VERSION) throw new IOException("unsupported log version " + version);
+
+        byte[] langBytes = new byte[MAX_LANG_BYTES];
+        CRC32 crc = new CRC32();
+        long valid = HEADER_SIZE;
+        long records = 0;
+        while (valid + RECORD_SIZE <= size) {
+            int pos = (int) valid;
+            crc.reset();
+            for (int i = 0; i < CRC_OFFSET; i++) crc.update(map.get(pos + i));
+            if ((int) crc.getValue() != map.getInt(pos + CRC_OFFSET)) break;
+
+            byte op = map.get(pos);
+            UUID uuid = new UUID(map.getLong(pos + 1), map.getLong(pos + 9));
+            if (op == OP_PUT) {
+                int len = map.get(pos + 17) & 0xFF;
+                if (len > MAX_LANG_BYTES) break;
+                map.get(pos + 18, langBytes, 0, len);
+                index.put(uuid, new String(langBytes, 0, len, StandardCharsets.UTF_8));
+            } else if (op == OP_DELETE) {
+                index.remove(uuid);
+            } else {
+                break;
+            }
+            valid += RECORD_SIZE;
+            records++;
+        }
+
+        if (valid < size) {
+            plugin.getLogger().warning("Log (Lang) truncating " + (size - valid) + " bytes of torn/corrupt tail");
+            ch.truncate(valid);
+        }
+        ch.position(valid);
+        totalRecords = records;
+        plugin.getLogger().info("Log (Lang) replayed " + records + " records (" + index.size() + " live) in "
+                + ((System.nanoTime() - started) / 1_000_000L) + "ms");
+        return ch;
+    }
+
+    /** @return a fresh file header */
+    private static ByteBuffer header() {
+        ByteBuffer buf = ByteBuffer.allocate(HEADER_SIZE);
+        buf.putInt(LOG_MAGIC).putInt(LOG_VERSION);
+        buf.position(HEADER_SIZE);
+        buf.flip();
+        return buf;
+    }
+
+    /** Encodes one record (ready to read). */
+    private static ByteBuffer encode(byte op, UUID uuid, String lang) {
+        ByteBuffer buf = ByteBuffer.allocate(RECORD_SIZE);
+        buf.put(op);
+        buf.putLong(uuid.getMostSignificantBits());
+        buf.putLong(uuid.getLeastSignificantBits());
+        byte[] bytes = lang == null ? new byte[0] : lang.getBytes(StandardCharsets.UTF_8);
+        buf.put((byte) bytes.length);
+        buf.put(bytes);
+
+        CRC32 crc = new CRC32();
+        crc.update(buf.array(), 0, CRC_OFFSET);
+        buf.putInt(CRC_OFFSET, (int) crc.getValue());
+        buf.clear();
+        return buf;
+    }
+
+    /** Logs that a raw query method is not available on this backend. */
+    private void unsupported(String method) {
+        plugin.getLogger().warning("Log (Lang) does not support " + method + "; use an SQL backend.");
+    }
+}
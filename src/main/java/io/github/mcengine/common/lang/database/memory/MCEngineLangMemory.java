@@ -0,0 +1,256 @@
+package io.github.mcengine.common.lang.database.memory;
+
+import io.github.mcengine.common.lang.database.IMCEngineLangDB;
+import io.github.mcengine.common.lang.database.IMCEngineLangRowMapper;
+import org.bukkit.entity.Player;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+/**
+ * In-memory implementation of the Lang database ({@code database.type: memory}).
+ *
+ * <p>
+ * All rows live in a {@link ConcurrentHashMap}, so reads and writes never touch JDBC. The map is
+ * persisted asynchronously: a repeating task writes a snapshot of the whole map to a temporary
+ * file and atomically renames it over the previous one, and the snapshot is reloaded on startup.
+ * A final snapshot is written by {@link #close()}.
+ * </p>
+ *
+ * <p>Config:</p>
+ * <ul>
+ *   <li>{@code database.memory.path} → snapshot file in plugin data folder (default: {@code lang-memory.dat})</li>
+ *   <li>{@code database.memory.snapshot-interval} → seconds between snapshots (default: {@code 60})</li>
+ * </ul>
+ *
+ * <p>
+ * Writes made after the last snapshot are lost if the server crashes. Raw and parameterized SQL
+ * ({@code executeQuery}, {@code getValue}, {@code executeUpdate}, {@code forEachRow}) is not supported.
+ * </p>
+ */
+public final class MCEngineLangMemory implements IMCEngineLangDB {
+
+    /** Identifies snapshot files written by this class. */
+    private static final int SNAPSHOT_MAGIC = 0x4C414E47; // "LANG"
+
+    /** Snapshot format version. */
+    private static final int SNAPSHOT_VERSION = 1;
+
+    /** Language returned by {@link #getLang(Player)} when no row exists. */
+    private static final String DEFAULT_LANG = "en_US";
+
+    /** Owning plugin for configuration, scheduling and logging. */
+    private final Plugin plugin;
+
+    /** Snapshot file in the plugin data folder. */
+    private final File snapshotFile;
+
+    /** {@code player_uuid → lang} rows. */
+    private final Map<String, String> rows = new ConcurrentHashMap<>();
+
+    /** Set by every mutation; cleared when a snapshot is taken. */
+    private final AtomicBoolean dirty = new AtomicBoolean();
+
+    /** Repeating async snapshot task. */
+    private final BukkitTask snapshotTask;
+
+    /**
+     * Loads the last snapshot (if any) and schedules periodic snapshots.
+     *
+     * @param plugin Bukkit plugin instance
+     */
+    public MCEngineLangMemory(Plugin plugin) {
+        this.plugin = plugin;
+        String fileName = plugin.getConfig().getString("database.memory.path", "lang-memory.dat");
+        this.snapshotFile = new File(plugin.getDataFolder(), fileName);
+        load();
+
+        long intervalTicks = Math.max(1L, plugin.getConfig().getLong("database.memory.snapshot-interval", 60L)) * 20L;
+        this.snapshotTask = plugin.getServer().getScheduler()
+                .runTaskTimerAsynchronously(plugin, this::snapshotIfDirty, intervalTicks, intervalTicks);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void executeQuery(String query) {
+        unsupported("executeQuery");
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public <T> T getValue(String query, Class<T> type) {
+        unsupported("getValue");
+        return null;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int executeUpdate(String sql, Object... params) {
+        unsupported("executeUpdate");
+        return -1;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public <T> T getValue(String sql, Class<T> type, Object... params) {
+        unsupported("getValue");
+        return null;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public <T> long forEachRow(String sql, int fetchSize, IMCEngineLangRowMapper<T> mapper,
+                               Consumer<? super T> consumer, Object... params) {
+        unsupported("forEachRow");
+        return -1;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String getLang(Player player) {
+        return rows.getOrDefault(player.getUniqueId().toString(), DEFAULT_LANG);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String findLang(UUID playerUuid) {
+        return rows.get(playerUuid.toString());
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void setLang(Player player, String langType) {
+        setLang(player.getUniqueId(), langType);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void setLang(UUID playerUuid, String langType) {
+        rows.put(playerUuid.toString(), langType);
+        dirty.set(true);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean changeLang(Player player, String newLangType) {
+        String previous = rows.put(player.getUniqueId().toString(), newLangType);
+        if (newLangType.equals(previous)) return false;
+        dirty.set(true);
+        return true;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean deleteLang(UUID playerUuid) {
+        if (rows.remove(playerUuid.toString()) == null) return false;
+        dirty.set(true);
+        return true;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public long forEachLang(String afterUuid, int fetchSize, BiConsumer<String, String> consumer) {
+        List<String> keys = new ArrayList<>(rows.keySet());
+        Collections.sort(keys);
+        long count = 0;
+        for (String uuid : keys) {
+            if (afterUuid != null && uuid.compareTo(afterUuid) <= 0) continue;
+            String lang = rows.get(uuid);
+            if (lang == null) continue;
+            consumer.accept(uuid, lang);
+            count++;
+        }
+        return count;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean setLangs(Map<String, String> batch) {
+        rows.putAll(batch);
+        if (!batch.isEmpty()) dirty.set(true);
+        return true;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Map<String, Long> countLangs() {
+        Map<String, Long> out = new HashMap<>();
+        for (String lang : rows.values()) out.merge(lang, 1L, Long::sum);
+        return out;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int getWriteParallelism() {
+        return 1;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void close() {
+        snapshotTask.cancel();
+        snapshotIfDirty();
+    }
+
+    /** Writes a snapshot if anything changed since the last one. */
+    private synchronized void snapshotIfDirty() {
+        if (!dirty.getAndSet(false)) return;
+        try {
+            writeSnapshot();
+        } catch (IOException e) {
+            dirty.set(true);
+            plugin.getLogger().warning("Memory (Lang) snapshot failed: " + e.getMessage());
+        }
+    }
+
+    /** Writes all rows to a temporary file, syncs it and atomically replaces the snapshot. */
+    private void writeSnapshot() throws IOException {
+        File parent = snapshotFile.getAbsoluteFile().getParentFile();
+        if (parent != null) parent.mkdirs();
+        File tmp = new File(snapshotFile.getPath() + ".tmp");
+
+        Map<String, String> copy = new HashMap<>(rows);
+        try (FileOutputStream fos = new FileOutputStream(tmp);
+             DataOutputStream out = new DataOutputStream(new BufferedOutputStream(fos))) {
+            out.writeInt(SNAPSHOT_MAGIC);
+            out.writeInt(SNAPSHOT_VERSION);
+            out.writeInt(copy.size());
+            for (Map.Entry<String, String> row : copy.entrySet()) {
+                out.writeUTF(row.getKey());
+                out.writeUTF(row.getValue());
+            }
+            out.flush();
+            fos.getFD().sync();
+        }
+        Files.move(tmp.toPath(), snapshotFile.toPath(),
+                StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /** Loads rows from the snapshot file, if present. */
+    private void load() {
+        if (!snapshotFile.isFile()) return;
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(snapshotFile)))) {
+            if (in.readInt() != SNAPSHOT_MAGIC) throw new IOException("not a Lang snapshot");
+            int version = in.readInt();
+            if (version != SNAPSHOT_VERSION) throw new IOException("unsupported snapshot version " + version);
+            int size = in.readInt();
+            for (int i = 0; i < size; i++) rows.put(in.readUTF(), in.readUTF());
+            plugin.getLogger().info("Memory (Lang) loaded " + size + " rows from " + snapshotFile.getName());
+        } catch (IOException e) {
+            plugin.getLogger().warning("Memory (Lang) failed to load snapshot: " + e.getMessage());
+        }
+    }
+
+    /** Logs that a raw query method is not available on this backend. */
+    private void unsupported(String method) {
+        plugin.getLogger().warning("Memory (Lang) does not support " + method + "; use an SQL backend.");
+    }
+}
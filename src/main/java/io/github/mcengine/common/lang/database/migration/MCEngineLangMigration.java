@@ -0,0 +1,175 @@
+package io.github.mcengine.common.lang.database.migration;
+
+import io.github.mcengine.common.lang.database.IMCEngineLangDB;
+import org.bukkit.plugin.Plugin;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Streams the {@code lang} table from one {@link IMCEngineLangDB} backend into another.
+ *
+ * <p>
+ * Rows are read through {@link IMCEngineLangDB#forEachLang} (forward-only cursor, configurable
+ * fetch size) and written through {@link IMCEngineLangDB#setLangs} in batches, each batch in its
+ * own transaction. Memory use is bounded by the batch size.
+ * </p>
+ *
+ * <p>
+ * After every committed batch the last copied {@code player_uuid} is written to a checkpoint file
+ * in the plugin data folder. Running the same migration again resumes after that row; the file is
+ * removed once the migration completes.
+ * </p>
+ *
+ * <p>Blocking; run it off the main thread.</p>
+ */
+public final class MCEngineLangMigration {
+
+    /** Minimum delay between two progress reports, in milliseconds. */
+    private static final long PROGRESS_INTERVAL_MS = 5_000L;
+
+    /** Owning plugin for logging and the checkpoint location. */
+    private final Plugin plugin;
+
+    /** Backend rows are read from. */
+    private final IMCEngineLangDB source;
+
+    /** Backend rows are written to. */
+    private final IMCEngineLangDB target;
+
+    /** Rows fetched per cursor round trip. */
+    private final int fetchSize;
+
+    /** Rows written per transaction. */
+    private final int batchSize;
+
+    /** File holding the last committed {@code player_uuid}. */
+    private final File checkpointFile;
+
+    /** Receives human-readable progress lines. */
+    private final Consumer<String> progress;
+
+    /** Rows buffered for the next batch (insertion order = cursor order). */
+    private final Map<String, String> buffer = new LinkedHashMap<>();
+
+    /** Rows committed to the target so far (this run). */
+    private long copied;
+
+    /** Time of the last progress report. */
+    private long lastReport;
+
+    /**
+     * @param plugin        owning plugin (logging, data folder)
+     * @param source        backend to read from
+     * @param target        backend to write to
+     * @param migrationName name used for the checkpoint file (e.g., {@code sqlite-mysql})
+     * @param fetchSize     rows fetched per cursor round trip
+     * @param batchSize     rows written per transaction
+     * @param progress      receives progress lines (may be called from the migration thread)
+     */
+    public MCEngineLangMigration(Plugin plugin, IMCEngineLangDB source, IMCEngineLangDB target,
+                                 String migrationName, int fetchSize, int batchSize,
+                                 Consumer<String> progress) {
+        if (fetchSize <= 0) throw new IllegalArgumentException("fetchSize must be positive: " + fetchSize);
+        if (batchSize <= 0) throw new IllegalArgumentException("batchSize must be positive: " + batchSize);
+        this.plugin = plugin;
+        this.source = source;
+        this.target = target;
+        this.fetchSize = fetchSize;
+        this.batchSize = batchSize;
+        this.checkpointFile = new File(plugin.getDataFolder(), "migration-" + migrationName + ".checkpoint");
+        this.progress = progress;
+    }
+
+    /**
+     * Runs (or resumes) the migration.
+     *
+     * @return number of rows copied by this run
+     * @throws IllegalStateException if the source scan or a target batch fails; the checkpoint
+     *                               keeps the last committed row so the run can be resumed
+     */
+    public long run() {
+        String after = readCheckpoint();
+        if (after != null) report("Resuming Lang migration after " + after);
+
+        Long total = source.getValue("SELECT COUNT(*) FROM lang", Long.class);
+        long started = System.currentTimeMillis();
+        lastReport = started;
+
+        long scanned = source.forEachLang(after, fetchSize, (uuid, lang) -> {
+            buffer.put(uuid, lang);
+            if (buffer.size() >= batchSize) flush(total, started);
+        });
+        if (scanned < 0) throw new IllegalStateException("Lang migration source scan failed after " + copied + " rows");
+        flush(total, started);
+
+        deleteCheckpoint();
+        long elapsed = Math.max(1L, System.currentTimeMillis() - started);
+        report("Lang migration finished: " + copied + " rows in " + (elapsed / 1000.0) + "s");
+        return copied;
+    }
+
+    /** Writes the buffered rows in one transaction and advances the checkpoint. */
+    private void flush(Long total, long started) {
+        if (buffer.isEmpty()) return;
+        if (!target.setLangs(buffer)) {
+            throw new IllegalStateException("Lang migration batch failed after " + copied + " rows");
+        }
+
+        String last = null;
+        for (String uuid : buffer.keySet()) last = uuid;
+        writeCheckpoint(last);
+        copied += buffer.size();
+        buffer.clear();
+
+        long now = System.currentTimeMillis();
+        if (now - lastReport >= PROGRESS_INTERVAL_MS) {
+            lastReport = now;
+            long rate = copied * 1000L / Math.max(1L, now - started);
+            report("Lang migration: " + copied + (total != null ? "/" + total : "") + " rows (" + rate + " rows/s)");
+        }
+    }
+
+    /** Sends a progress line to the callback and the plugin log. */
+    private void report(String message) {
+        plugin.getLogger().info(message);
+        if (progress != null) progress.accept(message);
+    }
+
+    /** @return last committed {@code player_uuid}, or {@code null} if starting fresh */
+    private String readCheckpoint() {
+        if (!checkpointFile.isFile()) return null;
+        try {
+            String value = Files.readString(checkpointFile.toPath(), StandardCharsets.UTF_8).trim();
+            return value.isEmpty() ? null : value;
+        } catch (IOException e) {
+            plugin.getLogger().warning("Failed to read Lang migration checkpoint: " + e.getMessage());
+            return null;
+        }
+    }
+
+    /** Atomically replaces the checkpoint with {@code uuid}. */
+    private void writeCheckpoint(String uuid) {
+        File tmp = new File(checkpointFile.getPath() + ".tmp");
+        try {
+            Files.writeString(tmp.toPath(), uuid, StandardCharsets.UTF_8);
+            Files.move(tmp.toPath(), checkpointFile.toPath(),
+                    StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            plugin.getLogger().warning("Failed to write Lang migration checkpoint: " + e.getMessage());
+        }
+    }
+
+    /** Removes the checkpoint after a completed run. */
+    private void deleteCheckpoint() {
+        if (checkpointFile.exists() && !checkpointFile.delete()) {
+            plugin.getLogger().warning("Failed to delete Lang migration checkpoint: " + checkpointFile);
+        }
+    }
+}
@@ -1,13 +1,29 @@
 package io.github.mcengine.common.lang.database.mysql;
 
+import io.github.mcengine.common.lang.concurrent.MCEngineLangStripedExecutor;
 import io.github.mcengine.common.lang.database.IMCEngineLangDB;
+import io.github.mcengine.common.lang.database.IMCEngineLangRowMapper;
 import io.github.mcengine.common.lang.database.mysql.util.changeLangUtil;
+import io.github.mcengine.common.lang.database.mysql.util.countLangsUtil;
+import io.github.mcengine.common.lang.database.mysql.util.deleteLangUtil;
+import io.github.mcengine.common.lang.database.mysql.util.findLangUtil;
+import io.github.mcengine.common.lang.database.mysql.util.forEachLangUtil;
 import io.github.mcengine.common.lang.database.mysql.util.getLangUtil;
+import io.github.mcengine.common.lang.database.mysql.util.setLangsUtil;
+import io.github.mcengine.common.lang.database.util.MCEngineLangQueryTimeouts;
+import io.github.mcengine.common.lang.database.util.MCEngineLangStatementCache;
 import io.github.mcengine.common.lang.database.mysql.util.setLangUtil;
 import org.bukkit.entity.Player;
 import org.bukkit.plugin.Plugin;
 
 import java.sql.*;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 
 /**
  * MySQL implementation of the Lang database.
@@ -16,7 +32,8 @@ import java.sql.*;
  * <pre>
  * CREATE TABLE IF NOT EXISTS lang (
  *   player_uuid VARCHAR(36) NOT NULL PRIMARY KEY,
- *   lang        VARCHAR(32) NOT NULL DEFAULT 'en_US'
+ *   lang        VARCHAR(32) NOT NULL DEFAULT 'en_US',
+ *   updated_at  BIGINT      NOT NULL DEFAULT 0
  * ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
  * </pre>
  *
@@ -24,6 +41,19 @@ import java.sql.*;
  * Contract methods delegate their SQL to focused util classes under
  * {@code io.github.mcengine.common.lang.database.mysql.util}.
  * </p>
+ *
+ * <p>
+ * Per-player operations run on one of {@code database.mysql.pool-size} connections (default: 4),
+ * chosen by {@link MCEngineLangStripedExecutor#stripeOf}, so writes for different players can
+ * proceed in parallel. Schema checks, raw and parameterized queries and bulk operations ({@code forEachLang},
+ * {@code setLangs}, {@code countLangs}) use one more, dedicated connection, so a bulk transaction never
+ * includes or rolls back a player's write.
+ * </p>
+ *
+ * <p>
+ * Statements run under the per-operation timeouts of {@link MCEngineLangQueryTimeouts}; its connect and
+ * socket timeouts go into the JDBC URL, so a stalled server fails a call instead of blocking its thread.
+ * </p>
  */
 public final class MCEngineLangMySQL implements IMCEngineLangDB {
 
@@ -39,11 +69,24 @@ public final class MCEngineLangMySQL implements IMCEngineLangDB {
     /** Database password used by this implementation. */
     private final String pass;
 
-    /** Persistent MySQL JDBC connection for this instance. */
+    /**
+     * Dedicated MySQL JDBC connection for schema checks, raw and parameterized queries and bulk
+     * operations; bulk reads and writes toggle auto-commit on it, so it is never part of {@link #pool}.
+     */
     private final Connection conn;
 
+    /** Pooled connections for per-player operations, one per write stripe (never {@link #conn}). */
+    private final Connection[] pool;
+
+    /** Cached prepared statements for the parameterized query API. */
+    private final MCEngineLangStatementCache statements;
+
+    /** Per-operation statement timeouts. */
+    private final MCEngineLangQueryTimeouts timeouts;
+
     public MCEngineLangMySQL(Plugin plugin) {
         this.plugin = plugin;
+        this.timeouts = MCEngineLangQueryTimeouts.fromConfig(plugin);
 
         String host = plugin.getConfig().getString("database.mysql.host", "localhost");
         int port = plugin.getConfig().getInt("database.mysql.port", 3306);
@@ -52,7 +95,9 @@ public final class MCEngineLangMySQL implements IMCEngineLangDB {
         this.pass   = plugin.getConfig().getString("database.mysql.password", "");
 
         this.jdbcUrl = "jdbc:mysql://" + host + ":" + port + "/" + db +
-                "?useSSL=false&allowPublicKeyRetrieval=true&useUnicode=true&characterEncoding=utf8";
+                "?useSSL=false&allowPublicKeyRetrieval=true&useUnicode=true&characterEncoding=utf8" +
+                "&useCursorFetch=true" +
+                "&connectTimeout=" + timeouts.connect() * 1000 + "&socketTimeout=" + timeouts.socket() * 1000;
 
         Connection tmp = null;
         try {
@@ -63,6 +108,22 @@ public final class MCEngineLangMySQL implements IMCEngineLangDB {
             e.printStackTrace();
         }
         this.conn = tmp;
+
+        this.pool = new Connection[Math.max(1, plugin.getConfig().getInt("database.mysql.pool-size", 4))];
+        Connection shared = null;
+        for (int i = 0; i < pool.length && tmp != null; i++) {
+            try {
+                pool[i] = DriverManager.getConnection(jdbcUrl, user, pass);
+                if (shared == null) shared = pool[i];
+            } catch (SQLException e) {
+                plugin.getLogger().warning("MySQL (Lang) pool connect failed: " + e.getMessage());
+            }
+        }
+        for (int i = 0; i < pool.length; i++) {
+            if (pool[i] == null) pool[i] = shared; // stripes without their own connection share one
+        }
+        this.statements = new MCEngineLangStatementCache(tmp,
+                plugin.getConfig().getInt("database.statement-cache-size", 32), false, timeouts.bulk());
     }
 
     /** Ensures the {@code lang} table exists. */
@@ -71,16 +132,26 @@ public final class MCEngineLangMySQL implements IMCEngineLangDB {
             st.executeUpdate(
                 "CREATE TABLE IF NOT EXISTS lang (" +
                 "  player_uuid VARCHAR(36) NOT NULL PRIMARY KEY," +
-                "  lang        VARCHAR(32) NOT NULL DEFAULT 'en_US'" +
+                "  lang        VARCHAR(32) NOT NULL DEFAULT 'en_US'," +
+                "  updated_at  BIGINT      NOT NULL DEFAULT 0" +
                 ") ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci"
             );
             try {
-                st.executeUpdate("CREATE INDEX IF NOT EXISTS idx_lang_lang ON lang(lang)");
-            } catch (SQLException ignored) {
-                try (Statement st2 = c.createStatement()) {
-                    st2.executeUpdate("CREATE INDEX idx_lang_lang ON lang(lang)");
-                } catch (SQLException ignored2) { /* already exists */ }
-            }
+                st.executeUpdate("ALTER TABLE lang ADD COLUMN updated_at BIGINT NOT NULL DEFAULT 0");
+            } catch (SQLException ignored) { /* tables created by this version already have it */ }
+            ensureIndex(c, "idx_lang_lang", "lang");
+            ensureIndex(c, "idx_lang_updated_at", "updated_at");
+        }
+    }
+
+    /** Creates an index on {@code lang(column)} unless it already exists. */
+    private static void ensureIndex(Connection c, String name, String column) {
+        try (Statement st = c.createStatement()) {
+            st.executeUpdate("CREATE INDEX IF NOT EXISTS " + name + " ON lang(" + column + ")");
+        } catch (SQLException ignored) {
+            try (Statement st2 = c.createStatement()) {
+                st2.executeUpdate("CREATE INDEX " + name + " ON lang(" + column + ")");
+            } catch (SQLException ignored2) { /* already exists */ }
         }
     }
 
@@ -88,6 +159,7 @@ public final class MCEngineLangMySQL implements IMCEngineLangDB {
     @Override
     public void executeQuery(String query) {
         try (Statement st = conn.createStatement()) {
+            st.setQueryTimeout(timeouts.bulk());
             st.execute(query);
         } catch (SQLException e) {
             plugin.getLogger().warning("MySQL (Lang) executeQuery failed: " + e.getMessage());
@@ -98,17 +170,19 @@ public final class MCEngineLangMySQL implements IMCEngineLangDB {
     @Override
     @SuppressWarnings("unchecked")
     public <T> T getValue(String query, Class<T> type) {
-        try (Statement st = conn.createStatement();
-             ResultSet rs = st.executeQuery(query)) {
-            if (rs.next()) {
-                Object v;
-                if (type == String.class) v = rs.getString(1);
-                else if (type == Integer.class) v = rs.getInt(1);
-                else if (type == Long.class) v = rs.getLong(1);
-                else if (type == Double.class) v = rs.getDouble(1);
-                else if (type == Boolean.class) v = rs.getBoolean(1);
-                else throw new IllegalArgumentException("Unsupported return type: " + type);
-                return (T) v;
+        try (Statement st = conn.createStatement()) {
+            st.setQueryTimeout(timeouts.bulk());
+            try (ResultSet rs = st.executeQuery(query)) {
+                if (rs.next()) {
+                    Object v;
+                    if (type == String.class) v = rs.getString(1);
+                    else if (type == Integer.class) v = rs.getInt(1);
+                    else if (type == Long.class) v = rs.getLong(1);
+                    else if (type == Double.class) v = rs.getDouble(1);
+                    else if (type == Boolean.class) v = rs.getBoolean(1);
+                    else throw new IllegalArgumentException("Unsupported return type: " + type);
+                    return (T) v;
+                }
             }
         } catch (SQLException e) {
             plugin.getLogger().warning("MySQL (Lang) getValue failed: " + e.getMessage());
@@ -116,21 +190,124 @@ public final class MCEngineLangMySQL implements IMCEngineLangDB {
         return null;
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public int executeUpdate(String sql, Object... params) {
+        if (conn == null) return -1;
+        try {
+            return statements.executeUpdate(sql, params);
+        } catch (SQLException e) {
+            plugin.getLogger().warning("MySQL (Lang) executeUpdate failed: " + e.getMessage());
+            return -1;
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public <T> T getValue(String sql, Class<T> type, Object... params) {
+        if (conn == null) return null;
+        try {
+            return statements.getValue(sql, type, params);
+        } catch (SQLException e) {
+            plugin.getLogger().warning("MySQL (Lang) getValue failed: " + e.getMessage());
+            return null;
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public <T> long forEachRow(String sql, int fetchSize, IMCEngineLangRowMapper<T> mapper,
+                               Consumer<? super T> consumer, Object... params) {
+        if (conn == null) return -1;
+        try {
+            return statements.forEachRow(sql, fetchSize, mapper, consumer, params);
+        } catch (SQLException e) {
+            plugin.getLogger().warning("MySQL (Lang) forEachRow failed: " + e.getMessage());
+            return -1;
+        }
+    }
+
     /** {@inheritDoc} */
     @Override
     public String getLang(Player player) {
-        return getLangUtil.invoke(this.conn, this.plugin, player);
+        return getLangUtil.invoke(connFor(player.getUniqueId()), this.plugin, timeouts.lookup(), player);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String findLang(UUID playerUuid) {
+        return findLangUtil.invoke(connFor(playerUuid), this.plugin, timeouts.lookup(), playerUuid);
     }
 
     /** {@inheritDoc} */
     @Override
     public void setLang(Player player, String langType) {
-        setLangUtil.invoke(this.conn, this.plugin, player, langType);
+        setLang(player.getUniqueId(), langType);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void setLang(UUID playerUuid, String langType) {
+        setLangUtil.invoke(connFor(playerUuid), this.plugin, timeouts.write(), playerUuid, langType);
     }
 
     /** {@inheritDoc} */
     @Override
     public boolean changeLang(Player player, String newLangType) {
-        return changeLangUtil.invoke(this.conn, this.plugin, player, newLangType);
+        return changeLangUtil.invoke(connFor(player.getUniqueId()), this.plugin, timeouts.write(), player, newLangType);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean deleteLang(UUID playerUuid) {
+        return deleteLangUtil.invoke(connFor(playerUuid), this.plugin, timeouts.write(), playerUuid);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public long forEachLang(String afterUuid, int fetchSize, BiConsumer<String, String> consumer) {
+        return forEachLangUtil.invoke(this.conn, this.plugin, timeouts.bulk(), afterUuid, fetchSize, consumer);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean setLangs(Map<String, String> rows) {
+        return setLangsUtil.invoke(this.conn, this.plugin, timeouts.bulk(), rows);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Map<String, Long> countLangs() {
+        return countLangsUtil.invoke(this.conn, this.plugin, timeouts.bulk());
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int getWriteParallelism() {
+        return pool.length;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void close() {
+        if (conn == null) return;
+        statements.close();
+        Set<Connection> all = Collections.newSetFromMap(new IdentityHashMap<>());
+        all.add(conn);
+        for (Connection c : pool) {
+            if (c != null) all.add(c);
+        }
+        for (Connection c : all) {
+            try {
+                c.close();
+            } catch (SQLException e) {
+                plugin.getLogger().warning("MySQL (Lang) close failed: " + e.getMessage());
+            }
+        }
+    }
+
+    /** Returns the pooled connection assigned to a player (same striping as the write sequencer). */
+    private Connection connFor(UUID playerUuid) {
+        return pool[MCEngineLangStripedExecutor.stripeOf(playerUuid, pool.length)];
     }
 }
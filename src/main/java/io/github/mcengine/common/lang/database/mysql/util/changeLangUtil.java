@@ -1,5 +1,6 @@
 package io.github.mcengine.common.lang.database.mysql.util;
 
+import io.github.mcengine.common.lang.database.MCEngineLangDBException;
 import org.bukkit.entity.Player;
 import org.bukkit.plugin.Plugin;
 
@@ -11,19 +12,21 @@ import java.sql.*;
 public final class changeLangUtil {
     private changeLangUtil() {}
 
-    public static boolean invoke(Connection conn, Plugin plugin, Player player, String newLangType) {
-        if (conn == null) return false;
+    public static boolean invoke(Connection conn, Plugin plugin, int queryTimeout, Player player, String newLangType) {
+        if (conn == null) throw new MCEngineLangDBException("MySQL changeLang failed: no connection", null);
         final String uuid = player.getUniqueId().toString();
         try (PreparedStatement ps = conn.prepareStatement(
-                "UPDATE lang SET lang=? WHERE player_uuid=? AND lang<>?")) {
+                "UPDATE lang SET lang=?, updated_at=CAST(UNIX_TIMESTAMP(NOW(3)) * 1000 AS SIGNED) WHERE player_uuid=? AND lang<>?")) {
+            ps.setQueryTimeout(queryTimeout);
             ps.setString(1, newLangType);
             ps.setString(2, uuid);
             ps.setString(3, newLangType);
             int updated = ps.executeUpdate();
             if (updated == 0) {
                 try (PreparedStatement ins = conn.prepareStatement(
-                        "INSERT INTO lang (player_uuid, lang) VALUES (?, ?) " +
-                        "ON DUPLICATE KEY UPDATE lang=VALUES(lang)")) {
+                        "INSERT INTO lang (player_uuid, lang, updated_at) VALUES (?, ?, CAST(UNIX_TIMESTAMP(NOW(3)) * 1000 AS SIGNED)) " +
+                        "ON DUPLICATE KEY UPDATE updated_at=IF(lang=VALUES(lang), updated_at, VALUES(updated_at)), lang=VALUES(lang)")) {
+                    ins.setQueryTimeout(queryTimeout);
                     ins.setString(1, uuid);
                     ins.setString(2, newLangType);
                     return ins.executeUpdate() > 0;
@@ -32,7 +35,7 @@ public final class changeLangUtil {
             return true;
         } catch (SQLException e) {
             plugin.getLogger().warning("MySQL changeLang failed: " + e.getMessage());
-            return false;
+            throw new MCEngineLangDBException("MySQL changeLang failed", e);
         }
     }
 }
@@ -0,0 +1,29 @@
+package io.github.mcengine.common.lang.database.mysql.util;
+
+import org.bukkit.plugin.Plugin;
+
+import java.sql.*;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Counts stored rows per language code in the {@code lang} table (MySQL).
+ */
+public final class countLangsUtil {
+    private countLangsUtil() {}
+
+    public static Map<String, Long> invoke(Connection conn, Plugin plugin, int queryTimeout) {
+        if (conn == null) return null;
+        try (PreparedStatement ps = conn.prepareStatement("SELECT lang, COUNT(*) FROM lang GROUP BY lang")) {
+            ps.setQueryTimeout(queryTimeout);
+            try (ResultSet rs = ps.executeQuery()) {
+                Map<String, Long> out = new HashMap<>();
+                while (rs.next()) out.put(rs.getString(1), rs.getLong(2));
+                return out;
+            }
+        } catch (SQLException e) {
+            plugin.getLogger().warning("MySQL countLangs failed: " + e.getMessage());
+            return null;
+        }
+    }
+}
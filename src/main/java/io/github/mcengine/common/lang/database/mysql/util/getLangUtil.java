@@ -11,10 +11,11 @@ import java.sql.*;
 public final class getLangUtil {
     private getLangUtil() {}
 
-    public static String invoke(Connection conn, Plugin plugin, Player player) {
+    public static String invoke(Connection conn, Plugin plugin, int queryTimeout, Player player) {
         if (conn == null) return "en_US";
         final String uuid = player.getUniqueId().toString();
         try (PreparedStatement ps = conn.prepareStatement("SELECT lang FROM lang WHERE player_uuid=?")) {
+            ps.setQueryTimeout(queryTimeout);
             ps.setString(1, uuid);
             try (ResultSet rs = ps.executeQuery()) {
                 if (rs.next()) return rs.getString(1);
@@ -1,9 +1,10 @@
 package io.github.mcengine.common.lang.database.mysql.util;
 
-import org.bukkit.entity.Player;
+import io.github.mcengine.common.lang.database.MCEngineLangDBException;
 import org.bukkit.plugin.Plugin;
 
 import java.sql.*;
+import java.util.UUID;
 
 /**
  * Upserts the player's language code in the {@code lang} table (MySQL).
@@ -11,17 +12,19 @@ import java.sql.*;
 public final class setLangUtil {
     private setLangUtil() {}
 
-    public static void invoke(Connection conn, Plugin plugin, Player player, String langType) {
-        if (conn == null) return;
-        final String uuid = player.getUniqueId().toString();
+    public static void invoke(Connection conn, Plugin plugin, int queryTimeout, UUID playerUuid, String langType) {
+        if (conn == null) throw new MCEngineLangDBException("MySQL setLang failed: no connection", null);
+        final String uuid = playerUuid.toString();
         try (PreparedStatement ps = conn.prepareStatement(
-                "INSERT INTO lang (player_uuid, lang) VALUES (?, ?) " +
-                "ON DUPLICATE KEY UPDATE lang=VALUES(lang)")) {
+                "INSERT INTO lang (player_uuid, lang, updated_at) VALUES (?, ?, CAST(UNIX_TIMESTAMP(NOW(3)) * 1000 AS SIGNED)) " +
+                "ON DUPLICATE KEY UPDATE updated_at=IF(lang=VALUES(lang), updated_at, VALUES(updated_at)), lang=VALUES(lang)")) {
+            ps.setQueryTimeout(queryTimeout);
             ps.setString(1, uuid);
             ps.setString(2, langType);
             ps.executeUpdate();
         } catch (SQLException e) {
             plugin.getLogger().warning("MySQL setLang failed: " + e.getMessage());
+            throw new MCEngineLangDBException("MySQL setLang failed", e);
         }
     }
 }
@@ -1,5 +1,6 @@
 package io.github.mcengine.common.lang.database.postgresql.util;
 
+import io.github.mcengine.common.lang.database.MCEngineLangDBException;
 import org.bukkit.entity.Player;
 import org.bukkit.plugin.Plugin;
 
@@ -11,19 +12,22 @@ import java.sql.*;
 public final class changeLangUtil {
     private changeLangUtil() {}
 
-    public static boolean invoke(Connection conn, Plugin plugin, Player player, String newLangType) {
-        if (conn == null) return false;
+    public static boolean invoke(Connection conn, Plugin plugin, int queryTimeout, Player player, String newLangType) {
+        if (conn == null) throw new MCEngineLangDBException("PostgreSQL changeLang failed: no connection", null);
         final String uuid = player.getUniqueId().toString();
         try (PreparedStatement ps = conn.prepareStatement(
-                "UPDATE lang SET lang=? WHERE player_uuid=? AND lang<>?")) {
+                "UPDATE lang SET lang=?, updated_at=CAST(EXTRACT(EPOCH FROM clock_timestamp()) * 1000 AS BIGINT) WHERE player_uuid=? AND lang<>?")) {
+            ps.setQueryTimeout(queryTimeout);
             ps.setString(1, newLangType);
             ps.setString(2, uuid);
             ps.setString(3, newLangType);
             int updated = ps.executeUpdate();
             if (updated == 0) {
                 try (PreparedStatement ins = conn.prepareStatement(
-                        "INSERT INTO lang (player_uuid, lang) VALUES (?, ?) " +
-                        "ON CONFLICT (player_uuid) DO UPDATE SET lang=EXCLUDED.lang")) {
+                        "INSERT INTO lang (player_uuid, lang, updated_at) VALUES (?, ?, CAST(EXTRACT(EPOCH FROM clock_timestamp()) * 1000 AS BIGINT)) " +
+                        "ON CONFLICT (player_uuid) DO UPDATE SET lang=EXCLUDED.lang, updated_at=EXCLUDED.updated_at " +
+                        "WHERE lang.lang <> EXCLUDED.lang")) {
+                    ins.setQueryTimeout(queryTimeout);
                     ins.setString(1, uuid);
                     ins.setString(2, newLangType);
                     return ins.executeUpdate() > 0;
@@ -32,7 +36,7 @@ public final class changeLangUtil {
             return true;
         } catch (SQLException e) {
             plugin.getLogger().warning("PostgreSQL changeLang failed: " + e.getMessage());
-            return false;
+            throw new MCEngineLangDBException("PostgreSQL changeLang failed", e);
         }
     }
 }
@@ -0,0 +1,26 @@
+package io.github.mcengine.common.lang.database.postgresql.util;
+
+import io.github.mcengine.common.lang.database.MCEngineLangDBException;
+import org.bukkit.plugin.Plugin;
+
+import java.sql.*;
+import java.util.UUID;
+
+/**
+ * Deletes the stored language override for a player UUID (PostgreSQL).
+ */
+public final class deleteLangUtil {
+    private deleteLangUtil() {}
+
+    public static boolean invoke(Connection conn, Plugin plugin, int queryTimeout, UUID playerUuid) {
+        if (conn == null) throw new MCEngineLangDBException("PostgreSQL deleteLang failed: no connection", null);
+        try (PreparedStatement ps = conn.prepareStatement("DELETE FROM lang WHERE player_uuid=?")) {
+            ps.setQueryTimeout(queryTimeout);
+            ps.setString(1, playerUuid.toString());
+            return ps.executeUpdate() > 0;
+        } catch (SQLException e) {
+            plugin.getLogger().warning("PostgreSQL deleteLang failed: " + e.getMessage());
+            throw new MCEngineLangDBException("PostgreSQL deleteLang failed", e);
+        }
+    }
+}
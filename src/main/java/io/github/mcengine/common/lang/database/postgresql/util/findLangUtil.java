@@ -0,0 +1,29 @@
+package io.github.mcengine.common.lang.database.postgresql.util;
+
+import io.github.mcengine.common.lang.database.MCEngineLangDBException;
+import org.bukkit.plugin.Plugin;
+
+import java.sql.*;
+import java.util.UUID;
+
+/**
+ * Reads the stored language code for a player UUID from the {@code lang} table (PostgreSQL).
+ */
+public final class findLangUtil {
+    private findLangUtil() {}
+
+    public static String invoke(Connection conn, Plugin plugin, int queryTimeout, UUID playerUuid) {
+        if (conn == null) throw new MCEngineLangDBException("PostgreSQL findLang failed: no connection", null);
+        try (PreparedStatement ps = conn.prepareStatement("SELECT lang FROM lang WHERE player_uuid=?")) {
+            ps.setQueryTimeout(queryTimeout);
+            ps.setString(1, playerUuid.toString());
+            try (ResultSet rs = ps.executeQuery()) {
+                if (rs.next()) return rs.getString(1);
+            }
+        } catch (SQLException e) {
+            plugin.getLogger().warning("PostgreSQL findLang failed: " + e.getMessage());
+            throw new MCEngineLangDBException("PostgreSQL findLang failed", e);
+        }
+        return null;
+    }
+}
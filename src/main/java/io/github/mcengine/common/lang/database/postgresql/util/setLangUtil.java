@@ -1,9 +1,10 @@
 package io.github.mcengine.common.lang.database.postgresql.util;
 
-import org.bukkit.entity.Player;
+import io.github.mcengine.common.lang.database.MCEngineLangDBException;
 import org.bukkit.plugin.Plugin;
 
 import java.sql.*;
+import java.util.UUID;
 
 /**
  * Upserts the player's language code in the {@code lang} table (PostgreSQL).
@@ -11,17 +12,20 @@ import java.sql.*;
 public final class setLangUtil {
     private setLangUtil() {}
 
-    public static void invoke(Connection conn, Plugin plugin, Player player, String langType) {
-        if (conn == null) return;
-        final String uuid = player.getUniqueId().toString();
+    public static void invoke(Connection conn, Plugin plugin, int queryTimeout, UUID playerUuid, String langType) {
+        if (conn == null) throw new MCEngineLangDBException("PostgreSQL setLang failed: no connection", null);
+        final String uuid = playerUuid.toString();
         try (PreparedStatement ps = conn.prepareStatement(
-                "INSERT INTO lang (player_uuid, lang) VALUES (?, ?) " +
-                "ON CONFLICT (player_uuid) DO UPDATE SET lang=EXCLUDED.lang")) {
+                "INSERT INTO lang (player_uuid, lang, updated_at) VALUES (?, ?, CAST(EXTRACT(EPOCH FROM clock_timestamp()) * 1000 AS BIGINT)) " +
+                "ON CONFLICT (player_uuid) DO UPDATE SET lang=EXCLUDED.lang, updated_at=EXCLUDED.updated_at " +
+                "WHERE lang.lang <> EXCLUDED.lang")) {
+            ps.setQueryTimeout(queryTimeout);
             ps.setString(1, uuid);
             ps.setString(2, langType);
             ps.executeUpdate();
         } catch (SQLException e) {
             plugin.getLogger().warning("PostgreSQL setLang failed: " + e.getMessage());
+            throw new MCEngineLangDBException("PostgreSQL setLang failed", e);
         }
     }
 }
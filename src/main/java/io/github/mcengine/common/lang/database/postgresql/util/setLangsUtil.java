@@ -0,0 +1,64 @@
+package io.github.mcengine.common.lang.database.postgresql.util;
+
+import org.bukkit.plugin.Plugin;
+
+import java.sql.*;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * Upserts a batch of language rows with multi-row inserts inside one transaction (PostgreSQL).
+ */
+public final class setLangsUtil {
+    private setLangsUtil() {}
+
+    /** Maximum rows per {@code INSERT} statement (two bind parameters per row). */
+    private static final int ROWS_PER_STATEMENT = 400;
+
+    public static boolean invoke(Connection conn, Plugin plugin, int queryTimeout, Map<String, String> rows) {
+        if (conn == null) return false;
+        if (rows.isEmpty()) return true;
+        try {
+            boolean autoCommit = conn.getAutoCommit();
+            conn.setAutoCommit(false);
+            try {
+                Iterator<Map.Entry<String, String>> it = rows.entrySet().iterator();
+                int remaining = rows.size();
+                while (remaining > 0) {
+                    int chunk = Math.min(remaining, ROWS_PER_STATEMENT);
+                    try (PreparedStatement ps = conn.prepareStatement(buildInsert(chunk))) {
+                        ps.setQueryTimeout(queryTimeout);
+                        int idx = 1;
+                        for (int i = 0; i < chunk; i++) {
+                            Map.Entry<String, String> row = it.next();
+                            ps.setString(idx++, row.getKey());
+                            ps.setString(idx++, row.getValue());
+                        }
+                        ps.executeUpdate();
+                    }
+                    remaining -= chunk;
+                }
+                conn.commit();
+                return true;
+            } catch (SQLException e) {
+                conn.rollback();
+                throw e;
+            } finally {
+                conn.setAutoCommit(autoCommit);
+            }
+        } catch (SQLException e) {
+            plugin.getLogger().warning("PostgreSQL setLangs failed: " + e.getMessage());
+            return false;
+        }
+    }
+
+    /** Builds a multi-row upsert for {@code rows} value tuples. */
+    private static String buildInsert(int rows) {
+        StringBuilder sb = new StringBuilder("INSERT INTO lang (player_uuid, lang, updated_at) VALUES ");
+        for (int i = 0; i < rows; i++) {
+            if (i > 0) sb.append(',');
+            sb.append("(?, ?, CAST(EXTRACT(EPOCH FROM clock_timestamp()) * 1000 AS BIGINT))");
+        }
+        return sb.append(" ON CONFLICT (player_uuid) DO UPDATE SET lang=EXCLUDED.lang, updated_at=EXCLUDED.updated_at").toString();
+    }
+}
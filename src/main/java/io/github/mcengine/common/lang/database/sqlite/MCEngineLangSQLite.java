@@ -1,14 +1,26 @@
 package io.github.mcengine.common.lang.database.sqlite;
 
 import io.github.mcengine.common.lang.database.IMCEngineLangDB;
+import io.github.mcengine.common.lang.database.IMCEngineLangRowMapper;
 import io.github.mcengine.common.lang.database.sqlite.util.changeLangUtil;
+import io.github.mcengine.common.lang.database.sqlite.util.countLangsUtil;
+import io.github.mcengine.common.lang.database.sqlite.util.deleteLangUtil;
+import io.github.mcengine.common.lang.database.sqlite.util.findLangUtil;
+import io.github.mcengine.common.lang.database.sqlite.util.forEachLangUtil;
 import io.github.mcengine.common.lang.database.sqlite.util.getLangUtil;
+import io.github.mcengine.common.lang.database.sqlite.util.setLangsUtil;
+import io.github.mcengine.common.lang.database.util.MCEngineLangQueryTimeouts;
+import io.github.mcengine.common.lang.database.util.MCEngineLangStatementCache;
 import io.github.mcengine.common.lang.database.sqlite.util.setLangUtil;
 import org.bukkit.entity.Player;
 import org.bukkit.plugin.Plugin;
 
 import java.io.File;
 import java.sql.*;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 
 /**
  * SQLite implementation of the Lang database.
@@ -17,7 +29,8 @@ import java.sql.*;
  * <pre>
  * CREATE TABLE IF NOT EXISTS lang (
  *   player_uuid TEXT NOT NULL PRIMARY KEY,
- *   lang        TEXT NOT NULL DEFAULT 'en_US'
+ *   lang        TEXT NOT NULL DEFAULT 'en_US',
+ *   updated_at  INTEGER NOT NULL DEFAULT 0
  * );
  * </pre>
  *
@@ -25,6 +38,18 @@ import java.sql.*;
  * Contract methods delegate their SQL to focused util classes under
  * {@code io.github.mcengine.common.lang.database.sqlite.util}.
  * </p>
+ *
+ * <p>
+ * Per-player operations use one connection. Raw and parameterized queries and bulk operations
+ * ({@code forEachLang}, {@code setLangs}, {@code countLangs}) use a second, dedicated connection, so a
+ * bulk transaction never includes or rolls back a player's write, and its uncommitted rows are not
+ * visible to lookups. The two connections take turns on the file's write lock.
+ * </p>
+ *
+ * <p>
+ * Statements run under the per-operation timeouts of {@link MCEngineLangQueryTimeouts}; for SQLite this
+ * bounds how long a statement waits on a locked database file.
+ * </p>
  */
 public final class MCEngineLangSQLite implements IMCEngineLangDB {
 
@@ -35,23 +60,48 @@ public final class MCEngineLangSQLite implements IMCEngineLangDB {
     private final String databaseUrl;
 
     /**
-     * Persistent SQLite JDBC connection shared by this implementation.
+     * Persistent SQLite JDBC connection for per-player operations.
      * @implNote Contract methods delegate SQL to small utility classes
      * via their static {@code invoke(...)} entry points.
      */
     private final Connection conn;
 
+    /**
+     * Dedicated connection for raw and parameterized queries and bulk operations; bulk writes toggle
+     * auto-commit on it, so it is never {@link #conn}.
+     */
+    private final Connection bulkConn;
+
+    /** Cached prepared statements for the parameterized query API. */
+    private final MCEngineLangStatementCache statements;
+
+    /** Per-operation statement timeouts. */
+    private final MCEngineLangQueryTimeouts timeouts;
+
     /**
      * Builds the SQLite connection from config:
      * <ul>
      *   <li>{@code database.sqlite.path} → DB file in plugin data folder (default: {@code lang.db})</li>
+     *   <li>{@code database.statement-cache-size} → cached prepared statements (default: {@code 32})</li>
+     *   <li>{@code database.query-timeout.*} → statement timeouts (see {@link MCEngineLangQueryTimeouts})</li>
      * </ul>
      *
      * @param plugin Bukkit plugin instance
      */
     public MCEngineLangSQLite(Plugin plugin) {
+        this(plugin, plugin.getConfig().getString("database.sqlite.path", "lang.db"));
+    }
+
+    /**
+     * Builds the SQLite connection for an explicit database file (e.g., a local cache tier),
+     * ignoring {@code database.sqlite.path}.
+     *
+     * @param plugin   Bukkit plugin instance
+     * @param fileName DB file in plugin data folder
+     */
+    public MCEngineLangSQLite(Plugin plugin, String fileName) {
         this.plugin = plugin;
-        String fileName = plugin.getConfig().getString("database.sqlite.path", "lang.db");
+        this.timeouts = MCEngineLangQueryTimeouts.fromConfig(plugin);
         File dbFile = new File(plugin.getDataFolder(), fileName);
 
         try {
@@ -67,17 +117,38 @@ public final class MCEngineLangSQLite implements IMCEngineLangDB {
         this.databaseUrl = "jdbc:sqlite:" + dbFile.getAbsolutePath();
 
         Connection tmp = null;
+        Connection bulk = null;
         try {
-            tmp = DriverManager.getConnection(databaseUrl);
-            try (Statement pragma = tmp.createStatement()) {
-                pragma.execute("PRAGMA foreign_keys = ON");
-            }
+            tmp = open(timeouts.write());
             ensureSchema(tmp);
+            bulk = open(timeouts.bulk());
         } catch (SQLException e) {
             plugin.getLogger().warning("SQLite (Lang) connect/ensure failed: " + e.getMessage());
             e.printStackTrace();
+            if (tmp != null) {
+                try {
+                    tmp.close();
+                } catch (SQLException ignored) { /* already failing */ }
+                tmp = null;
+            }
         }
         this.conn = tmp;
+        this.bulkConn = bulk;
+        this.statements = new MCEngineLangStatementCache(bulk,
+                plugin.getConfig().getInt("database.statement-cache-size", 32), false, timeouts.bulk());
+    }
+
+    /** Opens a connection that waits up to {@code busySeconds} for the other connection's write lock. */
+    private Connection open(int busySeconds) throws SQLException {
+        Connection c = DriverManager.getConnection(databaseUrl);
+        try (Statement pragma = c.createStatement()) {
+            pragma.execute("PRAGMA foreign_keys = ON");
+            pragma.execute("PRAGMA busy_timeout = " + busySeconds * 1000);
+        } catch (SQLException e) {
+            c.close();
+            throw e;
+        }
+        return c;
     }
 
     /** Ensures the {@code lang} table exists. */
@@ -86,17 +157,23 @@ public final class MCEngineLangSQLite implements IMCEngineLangDB {
             st.executeUpdate(
                 "CREATE TABLE IF NOT EXISTS lang (" +
                 "  player_uuid TEXT NOT NULL PRIMARY KEY," +
-                "  lang        TEXT NOT NULL DEFAULT 'en_US'" +
+                "  lang        TEXT NOT NULL DEFAULT 'en_US'," +
+                "  updated_at  INTEGER NOT NULL DEFAULT 0" +
                 ")"
             );
+            try {
+                st.executeUpdate("ALTER TABLE lang ADD COLUMN updated_at INTEGER NOT NULL DEFAULT 0");
+            } catch (SQLException ignored) { /* tables created by this version already have it */ }
             st.executeUpdate("CREATE INDEX IF NOT EXISTS idx_lang_lang ON lang(lang)");
+            st.executeUpdate("CREATE INDEX IF NOT EXISTS idx_lang_updated_at ON lang(updated_at)");
         }
     }
 
     /** {@inheritDoc} */
     @Override
     public void executeQuery(String query) {
-        try (Statement st = conn.createStatement()) {
+        try (Statement st = bulkConn.createStatement()) {
+            st.setQueryTimeout(timeouts.bulk());
             st.execute(query);
         } catch (SQLException e) {
             plugin.getLogger().warning("SQLite (Lang) executeQuery failed: " + e.getMessage());
@@ -107,17 +184,19 @@ public final class MCEngineLangSQLite implements IMCEngineLangDB {
     @Override
     @SuppressWarnings("unchecked")
     public <T> T getValue(String query, Class<T> type) {
-        try (Statement st = conn.createStatement();
-             ResultSet rs = st.executeQuery(query)) {
-            if (rs.next()) {
-                Object v;
-                if (type == String.class) v = rs.getString(1);
-                else if (type == Integer.class) v = rs.getInt(1);
-                else if (type == Long.class) v = rs.getLong(1);
-                else if (type == Double.class) v = rs.getDouble(1);
-                else if (type == Boolean.class) v = rs.getBoolean(1);
-                else throw new IllegalArgumentException("Unsupported return type: " + type);
-                return (T) v;
+        try (Statement st = bulkConn.createStatement()) {
+            st.setQueryTimeout(timeouts.bulk());
+            try (ResultSet rs = st.executeQuery(query)) {
+                if (rs.next()) {
+                    Object v;
+                    if (type == String.class) v = rs.getString(1);
+                    else if (type == Integer.class) v = rs.getInt(1);
+                    else if (type == Long.class) v = rs.getLong(1);
+                    else if (type == Double.class) v = rs.getDouble(1);
+                    else if (type == Boolean.class) v = rs.getBoolean(1);
+                    else throw new IllegalArgumentException("Unsupported return type: " + type);
+                    return (T) v;
+                }
             }
         } catch (SQLException e) {
             plugin.getLogger().warning("SQLite (Lang) getValue failed: " + e.getMessage());
@@ -125,21 +204,114 @@ public final class MCEngineLangSQLite implements IMCEngineLangDB {
         return null;
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public int executeUpdate(String sql, Object... params) {
+        if (conn == null) return -1;
+        try {
+            return statements.executeUpdate(sql, params);
+        } catch (SQLException e) {
+            plugin.getLogger().warning("SQLite (Lang) executeUpdate failed: " + e.getMessage());
+            return -1;
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public <T> T getValue(String sql, Class<T> type, Object... params) {
+        if (conn == null) return null;
+        try {
+            return statements.getValue(sql, type, params);
+        } catch (SQLException e) {
+            plugin.getLogger().warning("SQLite (Lang) getValue failed: " + e.getMessage());
+            return null;
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public <T> long forEachRow(String sql, int fetchSize, IMCEngineLangRowMapper<T> mapper,
+                               Consumer<? super T> consumer, Object... params) {
+        if (conn == null) return -1;
+        try {
+            return statements.forEachRow(sql, fetchSize, mapper, consumer, params);
+        } catch (SQLException e) {
+            plugin.getLogger().warning("SQLite (Lang) forEachRow failed: " + e.getMessage());
+            return -1;
+        }
+    }
+
     /** {@inheritDoc} */
     @Override
     public String getLang(Player player) {
-        return getLangUtil.invoke(this.conn, this.plugin, player);
+        return getLangUtil.invoke(this.conn, this.plugin, timeouts.lookup(), player);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String findLang(UUID playerUuid) {
+        return findLangUtil.invoke(this.conn, this.plugin, timeouts.lookup(), playerUuid);
     }
 
     /** {@inheritDoc} */
     @Override
     public void setLang(Player player, String langType) {
-        setLangUtil.invoke(this.conn, this.plugin, player, langType);
+        setLang(player.getUniqueId(), langType);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void setLang(UUID playerUuid, String langType) {
+        setLangUtil.invoke(this.conn, this.plugin, timeouts.write(), playerUuid, langType);
     }
 
     /** {@inheritDoc} */
     @Override
     public boolean changeLang(Player player, String newLangType) {
-        return changeLangUtil.invoke(this.conn, this.plugin, player, newLangType);
+        return changeLangUtil.invoke(this.conn, this.plugin, timeouts.write(), player, newLangType);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean deleteLang(UUID playerUuid) {
+        return deleteLangUtil.invoke(this.conn, this.plugin, timeouts.write(), playerUuid);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public long forEachLang(String afterUuid, int fetchSize, BiConsumer<String, String> consumer) {
+        return forEachLangUtil.invoke(this.bulkConn, this.plugin, timeouts.bulk(), afterUuid, fetchSize, consumer);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean setLangs(Map<String, String> rows) {
+        return setLangsUtil.invoke(this.bulkConn, this.plugin, timeouts.bulk(), rows);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Map<String, Long> countLangs() {
+        return countLangsUtil.invoke(this.bulkConn, this.plugin, timeouts.bulk());
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int getWriteParallelism() {
+        return 1;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void close() {
+        if (conn == null) return;
+        statements.close();
+        for (Connection c : new Connection[] {conn, bulkConn}) {
+            try {
+                c.close();
+            } catch (SQLException e) {
+                plugin.getLogger().warning("SQLite (Lang) close failed: " + e.getMessage());
+            }
+        }
     }
 }
@@ -1,5 +1,6 @@
 package io.github.mcengine.common.lang.database.sqlite.util;
 
+import io.github.mcengine.common.lang.database.MCEngineLangDBException;
 import org.bukkit.entity.Player;
 import org.bukkit.plugin.Plugin;
 
@@ -14,23 +15,28 @@ public final class changeLangUtil {
     /**
      * @param conn         active SQLite {@link Connection}
      * @param plugin       plugin for logging
+     * @param queryTimeout statement timeout in seconds ({@code 0} for none)
      * @param player       Bukkit player
      * @param newLangType  target language code
      * @return true if changed or inserted; false otherwise
+     * @throws MCEngineLangDBException if there is no connection or the statement fails
      */
-    public static boolean invoke(Connection conn, Plugin plugin, Player player, String newLangType) {
-        if (conn == null) return false;
+    public static boolean invoke(Connection conn, Plugin plugin, int queryTimeout, Player player, String newLangType) {
+        if (conn == null) throw new MCEngineLangDBException("SQLite changeLang failed: no connection", null);
         final String uuid = player.getUniqueId().toString();
         try (PreparedStatement ps = conn.prepareStatement(
-                "UPDATE lang SET lang=? WHERE player_uuid=? AND lang<>?")) {
+                "UPDATE lang SET lang=?, updated_at=CAST((julianday('now') - 2440587.5) * 86400000 AS INTEGER) WHERE player_uuid=? AND lang<>?")) {
+            ps.setQueryTimeout(queryTimeout);
             ps.setString(1, newLangType);
             ps.setString(2, uuid);
             ps.setString(3, newLangType);
             int updated = ps.executeUpdate();
             if (updated == 0) {
                 try (PreparedStatement ins = conn.prepareStatement(
-                        "INSERT INTO lang (player_uuid, lang) VALUES (?, ?) " +
-                        "ON CONFLICT(player_uuid) DO UPDATE SET lang=excluded.lang")) {
+                        "INSERT INTO lang (player_uuid, lang, updated_at) VALUES (?, ?, CAST((julianday('now') - 2440587.5) * 86400000 AS INTEGER)) " +
+                        "ON CONFLICT(player_uuid) DO UPDATE SET lang=excluded.lang, updated_at=excluded.updated_at " +
+                        "WHERE lang <> excluded.lang")) {
+                    ins.setQueryTimeout(queryTimeout);
                     ins.setString(1, uuid);
                     ins.setString(2, newLangType);
                     return ins.executeUpdate() > 0;
@@ -39,7 +45,7 @@ public final class changeLangUtil {
             return true;
         } catch (SQLException e) {
             plugin.getLogger().warning("SQLite changeLang failed: " + e.getMessage());
-            return false;
+            throw new MCEngineLangDBException("SQLite changeLang failed", e);
         }
     }
 }
@@ -0,0 +1,35 @@
+package io.github.mcengine.common.lang.database.sqlite.util;
+
+import org.bukkit.plugin.Plugin;
+
+import java.sql.*;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Counts stored rows per language code in the {@code lang} table (SQLite).
+ */
+public final class countLangsUtil {
+    private countLangsUtil() {}
+
+    /**
+     * @param conn         active SQLite {@link Connection}
+     * @param plugin       plugin for logging
+     * @param queryTimeout statement timeout in seconds ({@code 0} for none)
+     * @return {@code lang → row count}; {@code null} on error
+     */
+    public static Map<String, Long> invoke(Connection conn, Plugin plugin, int queryTimeout) {
+        if (conn == null) return null;
+        try (PreparedStatement ps = conn.prepareStatement("SELECT lang, COUNT(*) FROM lang GROUP BY lang")) {
+            ps.setQueryTimeout(queryTimeout);
+            try (ResultSet rs = ps.executeQuery()) {
+                Map<String, Long> out = new HashMap<>();
+                while (rs.next()) out.put(rs.getString(1), rs.getLong(2));
+                return out;
+            }
+        } catch (SQLException e) {
+            plugin.getLogger().warning("SQLite countLangs failed: " + e.getMessage());
+            return null;
+        }
+    }
+}
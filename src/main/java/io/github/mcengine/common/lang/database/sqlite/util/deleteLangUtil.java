@@ -0,0 +1,34 @@
+package io.github.mcengine.common.lang.database.sqlite.util;
+
+import io.github.mcengine.common.lang.database.MCEngineLangDBException;
+import org.bukkit.plugin.Plugin;
+
+import java.sql.*;
+import java.util.UUID;
+
+/**
+ * Deletes the stored language override for a player UUID (SQLite).
+ */
+public final class deleteLangUtil {
+    private deleteLangUtil() {}
+
+    /**
+     * @param conn         active SQLite {@link Connection}
+     * @param plugin       plugin for logging
+     * @param queryTimeout statement timeout in seconds ({@code 0} for none)
+     * @param playerUuid   player's unique id
+     * @return true if a row was removed; false otherwise
+     * @throws MCEngineLangDBException if there is no connection or the statement fails
+     */
+    public static boolean invoke(Connection conn, Plugin plugin, int queryTimeout, UUID playerUuid) {
+        if (conn == null) throw new MCEngineLangDBException("SQLite deleteLang failed: no connection", null);
+        try (PreparedStatement ps = conn.prepareStatement("DELETE FROM lang WHERE player_uuid=?")) {
+            ps.setQueryTimeout(queryTimeout);
+            ps.setString(1, playerUuid.toString());
+            return ps.executeUpdate() > 0;
+        } catch (SQLException e) {
+            plugin.getLogger().warning("SQLite deleteLang failed: " + e.getMessage());
+            throw new MCEngineLangDBException("SQLite deleteLang failed", e);
+        }
+    }
+}
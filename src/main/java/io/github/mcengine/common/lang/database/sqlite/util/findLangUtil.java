@@ -0,0 +1,37 @@
+package io.github.mcengine.common.lang.database.sqlite.util;
+
+import io.github.mcengine.common.lang.database.MCEngineLangDBException;
+import org.bukkit.plugin.Plugin;
+
+import java.sql.*;
+import java.util.UUID;
+
+/**
+ * Reads the stored language code for a player UUID from the {@code lang} table (SQLite).
+ */
+public final class findLangUtil {
+    private findLangUtil() {}
+
+    /**
+     * @param conn         active SQLite {@link Connection}
+     * @param plugin       plugin for logging
+     * @param queryTimeout statement timeout in seconds ({@code 0} for none)
+     * @param playerUuid   player's unique id
+     * @return stored language code or {@code null} when no row exists
+     * @throws MCEngineLangDBException if there is no connection or the statement fails
+     */
+    public static String invoke(Connection conn, Plugin plugin, int queryTimeout, UUID playerUuid) {
+        if (conn == null) throw new MCEngineLangDBException("SQLite findLang failed: no connection", null);
+        try (PreparedStatement ps = conn.prepareStatement("SELECT lang FROM lang WHERE player_uuid=?")) {
+            ps.setQueryTimeout(queryTimeout);
+            ps.setString(1, playerUuid.toString());
+            try (ResultSet rs = ps.executeQuery()) {
+                if (rs.next()) return rs.getString(1);
+            }
+        } catch (SQLException e) {
+            plugin.getLogger().warning("SQLite findLang failed: " + e.getMessage());
+            throw new MCEngineLangDBException("SQLite findLang failed", e);
+        }
+        return null;
+    }
+}
@@ -0,0 +1,48 @@
+package io.github.mcengine.common.lang.database.sqlite.util;
+
+import org.bukkit.plugin.Plugin;
+
+import java.sql.*;
+import java.util.function.BiConsumer;
+
+/**
+ * Streams rows of the {@code lang} table in {@code player_uuid} order through a
+ * forward-only, read-only cursor (SQLite).
+ */
+public final class forEachLangUtil {
+    private forEachLangUtil() {}
+
+    /**
+     * @param conn         active SQLite {@link Connection}
+     * @param plugin       plugin for logging
+     * @param queryTimeout statement timeout in seconds ({@code 0} for none)
+     * @param afterUuid    exclusive lower bound on {@code player_uuid}, or {@code null} to start at the beginning
+     * @param fetchSize    rows fetched per round trip
+     * @param consumer     receives {@code (player_uuid, lang)} for each row
+     * @return number of rows streamed, or {@code -1} on error
+     */
+    public static long invoke(Connection conn, Plugin plugin, int queryTimeout, String afterUuid, int fetchSize,
+                              BiConsumer<String, String> consumer) {
+        if (conn == null) return -1;
+        String sql = afterUuid == null
+                ? "SELECT player_uuid, lang FROM lang ORDER BY player_uuid"
+                : "SELECT player_uuid, lang FROM lang WHERE player_uuid > ? ORDER BY player_uuid";
+        long count = 0;
+        try (PreparedStatement ps = conn.prepareStatement(sql,
+                ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
+            ps.setQueryTimeout(queryTimeout);
+            ps.setFetchSize(fetchSize);
+            if (afterUuid != null) ps.setString(1, afterUuid);
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    consumer.accept(rs.getString(1), rs.getString(2));
+                    count++;
+                }
+            }
+        } catch (SQLException e) {
+            plugin.getLogger().warning("SQLite forEachLang failed: " + e.getMessage());
+            return -1;
+        }
+        return count;
+    }
+}
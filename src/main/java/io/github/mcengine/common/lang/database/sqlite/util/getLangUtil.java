@@ -12,15 +12,17 @@ public final class getLangUtil {
     private getLangUtil() {}
 
     /**
-     * @param conn   active SQLite {@link Connection}
-     * @param plugin plugin for logging
-     * @param player Bukkit player
+     * @param conn         active SQLite {@link Connection}
+     * @param plugin       plugin for logging
+     * @param queryTimeout statement timeout in seconds ({@code 0} for none)
+     * @param player       Bukkit player
      * @return language code or {@code "en_US"} when missing/error
      */
-    public static String invoke(Connection conn, Plugin plugin, Player player) {
+    public static String invoke(Connection conn, Plugin plugin, int queryTimeout, Player player) {
         if (conn == null) return "en_US";
         final String uuid = player.getUniqueId().toString();
         try (PreparedStatement ps = conn.prepareStatement("SELECT lang FROM lang WHERE player_uuid=?")) {
+            ps.setQueryTimeout(queryTimeout);
             ps.setString(1, uuid);
             try (ResultSet rs = ps.executeQuery()) {
                 if (rs.next()) return rs.getString(1);
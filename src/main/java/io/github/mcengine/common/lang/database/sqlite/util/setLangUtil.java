@@ -1,9 +1,10 @@
 package io.github.mcengine.common.lang.database.sqlite.util;
 
-import org.bukkit.entity.Player;
+import io.github.mcengine.common.lang.database.MCEngineLangDBException;
 import org.bukkit.plugin.Plugin;
 
 import java.sql.*;
+import java.util.UUID;
 
 /**
  * Upserts the player's language code in the {@code lang} table (SQLite).
@@ -12,22 +13,27 @@ public final class setLangUtil {
     private setLangUtil() {}
 
     /**
-     * @param conn     active SQLite {@link Connection}
-     * @param plugin   plugin for logging
-     * @param player   Bukkit player
-     * @param langType language code to persist
+     * @param conn         active SQLite {@link Connection}
+     * @param plugin       plugin for logging
+     * @param queryTimeout statement timeout in seconds ({@code 0} for none)
+     * @param playerUuid   player's unique id
+     * @param langType     language code to persist
+     * @throws MCEngineLangDBException if there is no connection or the statement fails
      */
-    public static void invoke(Connection conn, Plugin plugin, Player player, String langType) {
-        if (conn == null) return;
-        final String uuid = player.getUniqueId().toString();
+    public static void invoke(Connection conn, Plugin plugin, int queryTimeout, UUID playerUuid, String langType) {
+        if (conn == null) throw new MCEngineLangDBException("SQLite setLang failed: no connection", null);
+        final String uuid = playerUuid.toString();
         try (PreparedStatement ps = conn.prepareStatement(
-                "INSERT INTO lang (player_uuid, lang) VALUES (?, ?) " +
-                "ON CONFLICT(player_uuid) DO UPDATE SET lang=excluded.lang")) {
+                "INSERT INTO lang (player_uuid, lang, updated_at) VALUES (?, ?, CAST((julianday('now') - 2440587.5) * 86400000 AS INTEGER)) " +
+                "ON CONFLICT(player_uuid) DO UPDATE SET lang=excluded.lang, updated_at=excluded.updated_at " +
+                "WHERE lang <> excluded.lang")) {
+            ps.setQueryTimeout(queryTimeout);
             ps.setString(1, uuid);
             ps.setString(2, langType);
             ps.executeUpdate();
         } catch (SQLException e) {
             plugin.getLogger().warning("SQLite setLang failed: " + e.getMessage());
+            throw new MCEngineLangDBException("SQLite setLang failed", e);
         }
     }
 }
@@ -0,0 +1,285 @@
+package io.github.mcengine.common.lang.database.tiered;
+
+import io.github.mcengine.common.lang.database.IMCEngineLangDB;
+import io.github.mcengine.common.lang.database.IMCEngineLangRowMapper;
+import io.github.mcengine.common.lang.database.MCEngineLangDBException;
+import org.bukkit.entity.Player;
+import org.bukkit.plugin.Plugin;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+/**
+ * Tiered implementation of the Lang database ({@code database.type: tiered}): a local SQLite file as a
+ * persistent near-cache in front of a remote MySQL/PostgreSQL backend, which stays the source of truth.
+ *
+ * <p>
+ * Reads are answered from the local tier while its entry is fresh; otherwise the remote is queried and
+ * the local tier refreshed (including "no row", so absent players are cached too). Writes go to the
+ * remote first and are then applied locally, so a failed remote write never leaves the local tier ahead
+ * of the truth. If the remote cannot be reached, a stale local entry is served rather than failing.
+ * Bulk scans, counts and raw queries always go to the remote.
+ * </p>
+ *
+ * <p>Freshness is tracked in a local meta table (ensured on init):</p>
+ * <pre>
+ * CREATE TABLE IF NOT EXISTS lang_cache_meta (
+ *   player_uuid TEXT    NOT NULL PRIMARY KEY,
+ *   fetched_at  INTEGER NOT NULL
+ * );
+ * </pre>
+ *
+ * <p>Config ({@code database.tiered.*}):</p>
+ * <ul>
+ *   <li>{@code remote} → source of truth: mysql | postgresql (default: {@code mysql})</li>
+ *   <li>{@code local-path} → local SQLite file in plugin data folder (default: {@code lang-cache.db})</li>
+ *   <li>{@code ttl} → seconds a local entry is trusted; {@code 0} trusts it until invalidated,
+ *       suitable when every writer goes through this server (default: {@code 300})</li>
+ *   <li>{@code invalidate-on-start} → forget all local freshness at startup, keeping the file only as
+ *       a warm copy that is revalidated on first read (default: {@code false})</li>
+ * </ul>
+ *
+ * <p>Entries can also be invalidated explicitly with {@link #invalidate(UUID)} and {@link #invalidateAll()}.</p>
+ */
+public final class MCEngineLangTiered implements IMCEngineLangDB {
+
+    /** Language returned by {@link #getLang(Player)} when no row exists. */
+    private static final String DEFAULT_LANG = "en_US";
+
+    /** A local entry: when it was fetched and the cached language ({@code null} for "no row"). */
+    private record Cached(long fetchedAt, String lang) {}
+
+    /** Reads a local entry joined with its meta row. */
+    private static final IMCEngineLangRowMapper<Cached> CACHED_MAPPER =
+            rs -> new Cached(rs.getLong(1), rs.getString(2));
+
+    /** Owning plugin for configuration and logging. */
+    private final Plugin plugin;
+
+    /** Source of truth. */
+    private final IMCEngineLangDB remote;
+
+    /** Local SQLite near-cache. */
+    private final IMCEngineLangDB local;
+
+    /** How long a local entry is trusted, in milliseconds; {@code 0} for no expiry. */
+    private final long ttlMillis;
+
+    /**
+     * @param plugin Bukkit plugin instance (config, logging)
+     * @param remote source-of-truth backend
+     * @param local  local SQLite backend used as the near-cache
+     */
+    public MCEngineLangTiered(Plugin plugin, IMCEngineLangDB remote, IMCEngineLangDB local) {
+        this.plugin = plugin;
+        this.remote = remote;
+        this.local = local;
+        this.ttlMillis = Math.max(0L, plugin.getConfig().getLong("database.tiered.ttl", 300L)) * 1000L;
+
+        local.executeQuery(
+            "CREATE TABLE IF NOT EXISTS lang_cache_meta (" +
+            "  player_uuid TEXT    NOT NULL PRIMARY KEY," +
+            "  fetched_at  INTEGER NOT NULL" +
+            ")"
+        );
+        if (plugin.getConfig().getBoolean("database.tiered.invalidate-on-start", false)) invalidateAll();
+    }
+
+    /** @return the source-of-truth backend */
+    public IMCEngineLangDB getRemote() {
+        return remote;
+    }
+
+    /** @return the local near-cache backend */
+    public IMCEngineLangDB getLocal() {
+        return local;
+    }
+
+    /**
+     * Marks a player's local entry as stale, so the next read goes to the remote.
+     *
+     * @param playerUuid player's unique id
+     */
+    public void invalidate(UUID playerUuid) {
+        local.executeUpdate("DELETE FROM lang_cache_meta WHERE player_uuid = ?", playerUuid);
+    }
+
+    /** Marks every local entry as stale. */
+    public void invalidateAll() {
+        local.executeUpdate("DELETE FROM lang_cache_meta");
+    }
+
+    // ------------------------------
+    // Per-player operations
+    // ------------------------------
+
+    /** {@inheritDoc} */
+    @Override
+    public String getLang(Player player) {
+        try {
+            String lang = findLang(player.getUniqueId());
+            return lang == null ? DEFAULT_LANG : lang;
+        } catch (MCEngineLangDBException e) {
+            return DEFAULT_LANG;
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String findLang(UUID playerUuid) {
+        Cached cached = readLocal(playerUuid);
+        if (cached != null && (ttlMillis == 0 || System.currentTimeMillis() - cached.fetchedAt() < ttlMillis)) {
+            return cached.lang();
+        }
+
+        String lang;
+        try {
+            lang = remote.findLang(playerUuid);
+        } catch (MCEngineLangDBException e) {
+            if (cached == null) throw e;
+            return cached.lang(); // stale, but better than nothing while the remote is down
+        }
+        storeLocal(playerUuid, lang);
+        return lang;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void setLang(Player player, String langType) {
+        setLang(player.getUniqueId(), langType);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void setLang(UUID playerUuid, String langType) {
+        remote.setLang(playerUuid, langType);
+        storeLocal(playerUuid, langType);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean changeLang(Player player, String newLangType) {
+        boolean changed = remote.changeLang(player, newLangType);
+        storeLocal(player.getUniqueId(), newLangType);
+        return changed;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean deleteLang(UUID playerUuid) {
+        boolean removed = remote.deleteLang(playerUuid);
+        storeLocal(playerUuid, null);
+        return removed;
+    }
+
+    // ------------------------------
+    // Bulk and raw operations (remote only)
+    // ------------------------------
+
+    /** {@inheritDoc} */
+    @Override
+    public void executeQuery(String query) {
+        remote.executeQuery(query);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public <T> T getValue(String query, Class<T> type) {
+        return remote.getValue(query, type);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int executeUpdate(String sql, Object... params) {
+        return remote.executeUpdate(sql, params);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public <T> T getValue(String sql, Class<T> type, Object... params) {
+        return remote.getValue(sql, type, params);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public <T> long forEachRow(String sql, int fetchSize, IMCEngineLangRowMapper<T> mapper,
+                               Consumer<? super T> consumer, Object... params) {
+        return remote.forEachRow(sql, fetchSize, mapper, consumer, params);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public long forEachLang(String afterUuid, int fetchSize, BiConsumer<String, String> consumer) {
+        return remote.forEachLang(afterUuid, fetchSize, consumer);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Rows are also upserted locally; their freshness is left untouched, so rows that were cached stay
+     * correct and rows that were not are still fetched from the remote on first read.
+     * </p>
+     */
+    @Override
+    public boolean setLangs(Map<String, String> rows) {
+        if (!remote.setLangs(rows)) return false;
+        if (!local.setLangs(rows)) {
+            plugin.getLogger().warning("Tiered (Lang) local batch update failed; invalidating local cache.");
+            invalidateAll();
+        }
+        return true;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Map<String, Long> countLangs() {
+        return remote.countLangs();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int getWriteParallelism() {
+        return remote.getWriteParallelism();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void close() {
+        try {
+            remote.close();
+        } finally {
+            local.close();
+        }
+    }
+
+    // ------------------------------
+    // Local tier
+    // ------------------------------
+
+    /** Returns the local entry for a player, or {@code null} if none is recorded (or the read failed). */
+    private Cached readLocal(UUID playerUuid) {
+        Cached[] found = new Cached[1];
+        local.forEachRow(
+                "SELECT m.fetched_at, l.lang FROM lang_cache_meta m " +
+                "LEFT JOIN lang l ON l.player_uuid = m.player_uuid WHERE m.player_uuid = ?",
+                1, CACHED_MAPPER, row -> found[0] = row, playerUuid);
+        return found[0];
+    }
+
+    /** Records a value fetched from (or written to) the remote; {@code null} caches "no row". */
+    private void storeLocal(UUID playerUuid, String lang) {
+        try {
+            if (lang == null) local.deleteLang(playerUuid);
+            else local.setLang(playerUuid, lang);
+            local.executeUpdate(
+                    "INSERT INTO lang_cache_meta (player_uuid, fetched_at) VALUES (?, ?) " +
+                    "ON CONFLICT(player_uuid) DO UPDATE SET fetched_at=excluded.fetched_at",
+                    playerUuid, System.currentTimeMillis());
+        } catch (MCEngineLangDBException e) {
+            // The remote already has the value; make sure the local copy is not trusted.
+            invalidate(playerUuid);
+        }
+    }
+}
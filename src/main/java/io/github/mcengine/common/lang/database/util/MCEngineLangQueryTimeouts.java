@@ -0,0 +1,41 @@
+package io.github.mcengine.common.lang.database.util;
+
+import org.bukkit.plugin.Plugin;
+
+/**
+ * Per-operation statement timeouts and connection timeouts for the SQL backends, in seconds
+ * ({@code 0} disables a limit).
+ *
+ * <p>Config:</p>
+ * <ul>
+ *   <li>{@code database.query-timeout.lookup} → per-player reads (default: {@code 2})</li>
+ *   <li>{@code database.query-timeout.write} → per-player writes (default: {@code 5})</li>
+ *   <li>{@code database.query-timeout.bulk} → scans, counts, batch writes and raw queries (default: {@code 60})</li>
+ *   <li>{@code database.connect-timeout} → establishing a connection (default: {@code 5})</li>
+ *   <li>{@code database.socket-timeout} → waiting for any response on an open connection; keep it above
+ *       the statement timeouts (default: {@code 90})</li>
+ * </ul>
+ *
+ * @param lookup  per-player read timeout
+ * @param write   per-player write timeout
+ * @param bulk    bulk and raw query timeout
+ * @param connect connect timeout
+ * @param socket  socket read timeout
+ */
+public record MCEngineLangQueryTimeouts(int lookup, int write, int bulk, int connect, int socket) {
+
+    /**
+     * Reads the timeouts from the plugin config.
+     *
+     * @param plugin Bukkit plugin instance
+     * @return configured timeouts
+     */
+    public static MCEngineLangQueryTimeouts fromConfig(Plugin plugin) {
+        return new MCEngineLangQueryTimeouts(
+                Math.max(0, plugin.getConfig().getInt("database.query-timeout.lookup", 2)),
+                Math.max(0, plugin.getConfig().getInt("database.query-timeout.write", 5)),
+                Math.max(0, plugin.getConfig().getInt("database.query-timeout.bulk", 60)),
+                Math.max(0, plugin.getConfig().getInt("database.connect-timeout", 5)),
+                Math.max(0, plugin.getConfig().getInt("database.socket-timeout", 90)));
+    }
+}
@@ -0,0 +1,156 @@
+package io.github.mcengine.common.lang.database.util;
+
+import io.github.mcengine.common.lang.database.IMCEngineLangRowMapper;
+
+import java.sql.*;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Bounded LRU cache of {@link PreparedStatement}s for one JDBC {@link Connection}.
+ *
+ * <p>
+ * Backs the parameterized query API of the SQL backends: statements are prepared once per SQL
+ * string and reused with freshly bound arguments, so the driver and server can reuse their plans.
+ * A cached statement cannot be shared between threads, so every execution holds the cache lock
+ * until its result set is fully consumed.
+ * </p>
+ *
+ * <p>Bind arguments go through {@link PreparedStatement#setObject}; {@link UUID}s are bound as
+ * their string form to match the {@code player_uuid} column.</p>
+ */
+public final class MCEngineLangStatementCache {
+
+    /** Connection the statements belong to. */
+    private final Connection conn;
+
+    /**
+     * Whether the driver only honours fetch sizes inside a transaction (PostgreSQL);
+     * streaming reads then run with auto-commit temporarily disabled.
+     */
+    private final boolean cursorNeedsTransaction;
+
+    /** Statement timeout in seconds applied to every prepared statement ({@code 0} for none). */
+    private final int queryTimeout;
+
+    /** Prepared statements in access order; the eldest is closed when the cache is full. */
+    private final LinkedHashMap<String, PreparedStatement> statements;
+
+    /**
+     * @param conn                   connection to prepare statements on
+     * @param maxSize                maximum number of cached statements
+     * @param cursorNeedsTransaction {@code true} if streaming needs auto-commit disabled
+     * @param queryTimeout           statement timeout in seconds ({@code 0} for none)
+     */
+    public MCEngineLangStatementCache(Connection conn, int maxSize, boolean cursorNeedsTransaction, int queryTimeout) {
+        this.conn = conn;
+        this.cursorNeedsTransaction = cursorNeedsTransaction;
+        this.queryTimeout = Math.max(0, queryTimeout);
+        final int limit = Math.max(1, maxSize);
+        this.statements = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, PreparedStatement> eldest) {
+                if (size() <= limit) return false;
+                closeQuietly(eldest.getValue());
+                return true;
+            }
+        };
+    }
+
+    /**
+     * Executes a DML/DDL statement with bound arguments.
+     *
+     * @return affected row count
+     */
+    public synchronized int executeUpdate(String sql, Object... params) throws SQLException {
+        PreparedStatement ps = prepare(sql, params);
+        return ps.executeUpdate();
+    }
+
+    /**
+     * Executes a query and converts the first column of the first row.
+     *
+     * @return converted value, or {@code null} if there is no row or the column is SQL {@code NULL}
+     * @throws IllegalArgumentException if {@code type} is unsupported
+     */
+    public synchronized <T> T getValue(String sql, Class<T> type, Object... params) throws SQLException {
+        PreparedStatement ps = prepare(sql, params);
+        ps.setFetchSize(1);
+        try (ResultSet rs = ps.executeQuery()) {
+            if (!rs.next()) return null;
+            return convert(rs, type);
+        }
+    }
+
+    /**
+     * Executes a query and streams every row through {@code mapper} into {@code consumer}.
+     *
+     * @return number of rows streamed
+     */
+    public synchronized <T> long forEachRow(String sql, int fetchSize, IMCEngineLangRowMapper<T> mapper,
+                                            Consumer<? super T> consumer, Object... params) throws SQLException {
+        boolean autoCommit = conn.getAutoCommit();
+        if (cursorNeedsTransaction && autoCommit) conn.setAutoCommit(false);
+        try {
+            PreparedStatement ps = prepare(sql, params);
+            ps.setFetchSize(Math.max(0, fetchSize));
+            long count = 0;
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    consumer.accept(mapper.map(rs));
+                    count++;
+                }
+            }
+            return count;
+        } finally {
+            if (cursorNeedsTransaction && autoCommit) {
+                conn.commit();
+                conn.setAutoCommit(true);
+            }
+        }
+    }
+
+    /** Closes every cached statement. */
+    public synchronized void close() {
+        for (PreparedStatement ps : statements.values()) closeQuietly(ps);
+        statements.clear();
+    }
+
+    /** Returns the cached statement for {@code sql} (preparing it on a miss) with {@code params} bound. */
+    private PreparedStatement prepare(String sql, Object[] params) throws SQLException {
+        PreparedStatement ps = statements.get(sql);
+        if (ps == null || ps.isClosed()) {
+            ps = conn.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setQueryTimeout(queryTimeout);
+            statements.put(sql, ps);
+        }
+        ps.clearParameters();
+        for (int i = 0; i < params.length; i++) {
+            Object p = params[i];
+            ps.setObject(i + 1, p instanceof UUID ? p.toString() : p);
+        }
+        return ps;
+    }
+
+    /** Reads column 1 of the current row as {@code type}. */
+    @SuppressWarnings("unchecked")
+    private static <T> T convert(ResultSet rs, Class<T> type) throws SQLException {
+        Object v;
+        if (type == String.class) v = rs.getString(1);
+        else if (type == Integer.class) v = rs.getInt(1);
+        else if (type == Long.class) v = rs.getLong(1);
+        else if (type == Double.class) v = rs.getDouble(1);
+        else if (type == Boolean.class) v = rs.getBoolean(1);
+        else throw new IllegalArgumentException("Unsupported return type: " + type);
+        return rs.wasNull() ? null : (T) v;
+    }
+
+    /** Closes a statement, ignoring failures. */
+    private static void closeQuietly(PreparedStatement ps) {
+        try {
+            ps.close();
+        } catch (SQLException ignored) { /* already closed */ }
+    }
+}
@@ -0,0 +1,33 @@
+package io.github.mcengine.common.lang.invalidation;
+
+import java.util.function.Consumer;
+
+/**
+ * Carries encoded invalidation batches between servers for {@link MCEngineLangInvalidationBus}.
+ *
+ * <p>
+ * Implementations only move opaque payloads; batching and encoding are done by the bus. A payload
+ * sent by one server should be delivered to every other server once, and need not be delivered back
+ * to the sender.
+ * </p>
+ */
+public interface IMCEngineLangInvalidationTransport {
+
+    /**
+     * Starts receiving payloads from other servers.
+     *
+     * @param receiver called with every payload received; may be invoked on any thread
+     */
+    void start(Consumer<byte[]> receiver);
+
+    /**
+     * Sends a payload to the other servers.
+     *
+     * @param payload encoded batch
+     * @return {@code false} if the payload could not be sent right now (the bus keeps it for the next flush)
+     */
+    boolean send(byte[] payload);
+
+    /** Stops receiving and releases resources. */
+    void close();
+}
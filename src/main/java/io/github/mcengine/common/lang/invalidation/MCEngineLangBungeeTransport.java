@@ -0,0 +1,104 @@
+package io.github.mcengine.common.lang.invalidation;
+
+import org.bukkit.entity.Player;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.plugin.messaging.PluginMessageListener;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.function.Consumer;
+
+/**
+ * {@link IMCEngineLangInvalidationTransport} over the proxy's {@code BungeeCord} plugin-messaging channel.
+ *
+ * <p>
+ * Payloads are wrapped in a {@code Forward} message to {@code ALL} servers under the sub-channel
+ * {@code MCEngineLang}, which BungeeCord and Velocity (with its BungeeCord channel support enabled)
+ * relay to every other backend server. Plugin messages travel over a player connection, so a server
+ * without online players cannot send; {@link #send(byte[])} then returns {@code false} and the bus
+ * retries on its next flush. Servers without players do not receive either, but they also have no
+ * session cache to refresh.
+ * </p>
+ *
+ * <p>
+ * {@link #send(byte[])} must be called on the main thread, and the {@code Forward} message stores the
+ * payload length as an unsigned short, so payloads are limited to {@code 65535} bytes.
+ * </p>
+ */
+public final class MCEngineLangBungeeTransport implements IMCEngineLangInvalidationTransport, PluginMessageListener {
+
+    /** Proxy channel. */
+    private static final String CHANNEL = "BungeeCord";
+
+    /** Sub-channel used for Lang payloads. */
+    private static final String SUB_CHANNEL = "MCEngineLang";
+
+    /** Owning plugin for channel registration and logging. */
+    private final Plugin plugin;
+
+    /** Receiver of payloads from other servers; {@code null} until started. */
+    private volatile Consumer<byte[]> receiver;
+
+    /**
+     * @param plugin Bukkit plugin instance (messenger, logging)
+     */
+    public MCEngineLangBungeeTransport(Plugin plugin) {
+        this.plugin = plugin;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void start(Consumer<byte[]> receiver) {
+        this.receiver = receiver;
+        plugin.getServer().getMessenger().registerOutgoingPluginChannel(plugin, CHANNEL);
+        plugin.getServer().getMessenger().registerIncomingPluginChannel(plugin, CHANNEL, this);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean send(byte[] payload) {
+        if (payload.length > 0xFFFF) {
+            throw new IllegalArgumentException("Lang invalidation payload too large: " + payload.length + " bytes");
+        }
+        Iterator<? extends Player> players = plugin.getServer().getOnlinePlayers().iterator();
+        if (!players.hasNext()) return false;
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(payload.length + 32);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeUTF("Forward");
+            out.writeUTF("ALL");
+            out.writeUTF(SUB_CHANNEL);
+            out.writeShort(payload.length);
+            out.write(payload);
+        } catch (IOException e) {
+            throw new IllegalStateException(e); // in-memory stream
+        }
+        players.next().sendPluginMessage(plugin, CHANNEL, bytes.toByteArray());
+        return true;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void onPluginMessageReceived(String channel, Player player, byte[] message) {
+        if (!CHANNEL.equals(channel)) return;
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(message))) {
+            if (!SUB_CHANNEL.equals(in.readUTF())) return;
+            byte[] payload = new byte[in.readUnsignedShort()];
+            in.readFully(payload);
+            receiver.accept(payload);
+        } catch (IOException e) {
+            plugin.getLogger().warning("Lang invalidation message could not be read: " + e.getMessage());
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void close() {
+        plugin.getServer().getMessenger().unregisterIncomingPluginChannel(plugin, CHANNEL, this);
+        plugin.getServer().getMessenger().unregisterOutgoingPluginChannel(plugin, CHANNEL);
+    }
+}
@@ -0,0 +1,240 @@
+package io.github.mcengine.common.lang.invalidation;
+
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
+
+/**
+ * Pushes language changes to the other servers of a network, so their caches drop or refresh a
+ * player's language right after it changed, instead of waiting for a TTL.
+ *
+ * <p>
+ * {@link #publish(UUID, String)} only records the change; a repeating task flushes every
+ * {@code flush-ticks} on the main thread, where transports such as plugin messaging must send from.
+ * Changes for the same player within one interval collapse to the latest, and each flush packs up to
+ * {@code max-batch} changes into one payload, kept under 32 KiB, so a burst
+ * of changes costs a few messages rather than one per change.
+ * </p>
+ *
+ * <p>Payload layout (big-endian):</p>
+ * <pre>
+ * byte    version (1)
+ * ubyte   n, then n × UTF language codes     (table of the languages in this batch)
+ * ushort  m, then m × { long msb, long lsb, ubyte index }   (index 255 = override removed)
+ * </pre>
+ * <p>A change therefore costs 17 bytes plus each distinct language once per payload.</p>
+ */
+public final class MCEngineLangInvalidationBus {
+
+    /** Payload format version. */
+    private static final int VERSION = 1;
+
+    /** Table index marking a removed override. */
+    private static final int REMOVED = 255;
+
+    /** Upper bound for one encoded payload; plugin messages carry at most a 16-bit length. */
+    static final int MAX_PAYLOAD_BYTES = 32 * 1024;
+
+    /** Encoded bytes of one change. */
+    private static final int CHANGE_BYTES = 17;
+
+    /** Encoded bytes of the version, table size and change count. */
+    private static final int HEADER_BYTES = 4;
+
+    /** Owning plugin for scheduling and logging. */
+    private final Plugin plugin;
+
+    /** Carries payloads between servers. */
+    private final IMCEngineLangInvalidationTransport transport;
+
+    /** Applies a change received from another server ({@code lang == null} for removed). */
+    private final BiConsumer<UUID, String> handler;
+
+    /** Ticks between flushes. */
+    private final long flushTicks;
+
+    /** Changes per payload. */
+    private final int maxBatch;
+
+    /** Changes waiting for the next flush, latest per player; guarded by {@code this}. */
+    private LinkedHashMap<UUID, String> pending = new LinkedHashMap<>();
+
+    /** Repeating flush task; {@code null} until started. */
+    private BukkitTask flushTask;
+
+    /** Payloads sent. */
+    private final AtomicLong sentPayloads = new AtomicLong();
+
+    /** Changes sent. */
+    private final AtomicLong sentChanges = new AtomicLong();
+
+    /** Changes received and applied. */
+    private final AtomicLong receivedChanges = new AtomicLong();
+
+    /**
+     * @param plugin     Bukkit plugin instance (scheduler, logging)
+     * @param transport  carries payloads between servers
+     * @param handler    applies a change received from another server; {@code lang} is {@code null} when the
+     *                   override was removed
+     * @param flushTicks ticks between flushes
+     * @param maxBatch   changes per payload
+     */
+    public MCEngineLangInvalidationBus(Plugin plugin, IMCEngineLangInvalidationTransport transport,
+                                       BiConsumer<UUID, String> handler, long flushTicks, int maxBatch) {
+        this.plugin = plugin;
+        this.transport = transport;
+        this.handler = handler;
+        this.flushTicks = Math.max(1L, flushTicks);
+        this.maxBatch = Math.max(1, Math.min(maxBatch, 0xFFFF));
+    }
+
+    /** Starts receiving and schedules the flush task. */
+    public void start() {
+        transport.start(this::receive);
+        flushTask = plugin.getServer().getScheduler()
+                .runTaskTimer(plugin, this::flush, flushTicks, flushTicks);
+    }
+
+    /**
+     * Records a change to be sent with the next flush.
+     *
+     * @param playerUuid player's unique id
+     * @param lang       new normalized language, or {@code null} if the override was removed
+     */
+    public synchronized void publish(UUID playerUuid, String lang) {
+        pending.remove(playerUuid); // keep the latest change at the end
+        pending.put(playerUuid, lang);
+    }
+
+    /** Sends all pending changes now; changes that cannot be sent are kept for the next flush. */
+    public void flush() {
+        LinkedHashMap<UUID, String> batch;
+        synchronized (this) {
+            if (pending.isEmpty()) return;
+            batch = pending;
+            pending = new LinkedHashMap<>();
+        }
+
+        List<Map.Entry<UUID, String>> entries = new ArrayList<>(batch.entrySet());
+        for (int from = 0; from < entries.size(); ) {
+            int to = from;
+            byte[] payload;
+            try {
+                List<String> table = new ArrayList<>();
+                Map<String, Integer> indexes = new HashMap<>();
+                int size = HEADER_BYTES;
+                while (to < entries.size() && to - from < maxBatch) {
+                    String lang = entries.get(to).getValue();
+                    int cost = CHANGE_BYTES;
+                    boolean newLang = lang != null && !indexes.containsKey(lang);
+                    if (newLang) {
+                        if (table.size() == REMOVED) break;
+                        cost += 2 + lang.length() * 3; // writeUTF upper bound
+                    }
+                    if (to > from && size + cost > MAX_PAYLOAD_BYTES) break;
+                    if (newLang) {
+                        indexes.put(lang, table.size());
+                        table.add(lang);
+                    }
+                    size += cost;
+                    to++;
+                }
+                payload = encode(entries.subList(from, to), table, indexes);
+            } catch (IOException e) {
+                throw new IllegalStateException(e); // in-memory stream
+            }
+
+            if (!transport.send(payload)) {
+                requeue(entries.subList(from, entries.size()));
+                return;
+            }
+            sentPayloads.incrementAndGet();
+            sentChanges.addAndGet(to - from);
+            from = to;
+        }
+    }
+
+    /** Stops the flush task, sends what is pending and closes the transport. */
+    public void close() {
+        if (flushTask != null) flushTask.cancel();
+        flush();
+        transport.close();
+    }
+
+    /** @return payloads sent so far */
+    public long getSentPayloads() {
+        return sentPayloads.get();
+    }
+
+    /** @return changes sent so far */
+    public long getSentChanges() {
+        return sentChanges.get();
+    }
+
+    /** @return changes received from other servers so far */
+    public long getReceivedChanges() {
+        return receivedChanges.get();
+    }
+
+    /** Puts unsent changes back, unless a newer change for the same player was published meanwhile. */
+    private synchronized void requeue(List<Map.Entry<UUID, String>> unsent) {
+        LinkedHashMap<UUID, String> merged = new LinkedHashMap<>();
+        for (Map.Entry<UUID, String> e : unsent) merged.put(e.getKey(), e.getValue());
+        merged.putAll(pending);
+        pending = merged;
+    }
+
+    /** Encodes one payload. */
+    private static byte[] encode(List<Map.Entry<UUID, String>> entries, List<String> table,
+                                 Map<String, Integer> indexes) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(8 + table.size() * 8 + entries.size() * 17);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(VERSION);
+            out.writeByte(table.size());
+            for (String lang : table) out.writeUTF(lang);
+            out.writeShort(entries.size());
+            for (Map.Entry<UUID, String> e : entries) {
+                out.writeLong(e.getKey().getMostSignificantBits());
+                out.writeLong(e.getKey().getLeastSignificantBits());
+                out.writeByte(e.getValue() == null ? REMOVED : indexes.get(e.getValue()));
+            }
+        }
+        return bytes.toByteArray();
+    }
+
+    /** Decodes a payload from another server and applies its changes. */
+    private void receive(byte[] payload) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload))) {
+            int version = in.readUnsignedByte();
+            if (version != VERSION) {
+                plugin.getLogger().warning("Lang invalidation payload has unknown version " + version + "; ignored.");
+                return;
+            }
+            String[] table = new String[in.readUnsignedByte()];
+            for (int i = 0; i < table.length; i++) table[i] = in.readUTF();
+
+            int count = in.readUnsignedShort();
+            for (int i = 0; i < count; i++) {
+                UUID uuid = new UUID(in.readLong(), in.readLong());
+                int index = in.readUnsignedByte();
+                handler.accept(uuid, index == REMOVED ? null : table[index]);
+            }
+            receivedChanges.addAndGet(count);
+        } catch (IOException | ArrayIndexOutOfBoundsException e) {
+            plugin.getLogger().warning("Lang invalidation payload could not be decoded: " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package io.github.mcengine.common.lang.invalidation;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * In-process {@link IMCEngineLangInvalidationTransport} that delivers payloads to every other transport
+ * started on the same {@link Network}, synchronously on the sending thread.
+ *
+ * <p>
+ * Intended for tests and single-JVM setups with several Lang instances ({@code lang.invalidation.transport:
+ * loopback} joins {@link Network#SHARED}).
+ * </p>
+ */
+public final class MCEngineLangLoopbackTransport implements IMCEngineLangInvalidationTransport {
+
+    /** Group of loopback transports that see each other's payloads. */
+    public static final class Network {
+
+        /** Network joined by transports created from config. */
+        public static final Network SHARED = new Network();
+
+        /** Started transports. */
+        private final List<MCEngineLangLoopbackTransport> members = new CopyOnWriteArrayList<>();
+    }
+
+    /** Network this transport belongs to. */
+    private final Network network;
+
+    /** Receiver of payloads from other members; {@code null} until started. */
+    private volatile Consumer<byte[]> receiver;
+
+    /**
+     * @param network network to join
+     */
+    public MCEngineLangLoopbackTransport(Network network) {
+        this.network = network;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void start(Consumer<byte[]> receiver) {
+        this.receiver = receiver;
+        network.members.add(this);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean send(byte[] payload) {
+        for (MCEngineLangLoopbackTransport member : network.members) {
+            if (member != this) member.receiver.accept(payload.clone());
+        }
+        return true;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void close() {
+        network.members.remove(this);
+    }
+}
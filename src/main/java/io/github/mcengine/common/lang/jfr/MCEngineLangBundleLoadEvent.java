@@ -0,0 +1,31 @@
+package io.github.mcengine.common.lang.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event for parsing one language bundle file, at enable, on reload or lazily on first use.
+ */
+@Name("io.github.mcengine.lang.BundleLoad")
+@Label("Lang Bundle Load")
+@Category({"MCEngine", "Lang"})
+@Description("Parsing of a language bundle file")
+@StackTrace(false)
+public final class MCEngineLangBundleLoadEvent extends Event {
+
+    /** Normalized language code. */
+    @Label("Language")
+    public String code;
+
+    /** Path of the parsed file. */
+    @Label("File")
+    public String file;
+
+    /** Number of leaf values read. */
+    @Label("Keys")
+    public int keys;
+}
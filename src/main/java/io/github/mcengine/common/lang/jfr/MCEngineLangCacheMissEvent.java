@@ -0,0 +1,26 @@
+package io.github.mcengine.common.lang.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR event for a lookup in {@link io.github.mcengine.common.lang.MCEngineLangCommon} that missed its
+ * cache. The event duration covers the work done to fill it (a query or a render).
+ */
+@Name("io.github.mcengine.lang.CacheMiss")
+@Label("Lang Cache Miss")
+@Category({"MCEngine", "Lang"})
+@Description("A language lookup that was not answered from memory")
+public final class MCEngineLangCacheMissEvent extends Event {
+
+    /** Cache that missed: {@code session}, {@code offline} or {@code render}. */
+    @Label("Cache")
+    public String cache;
+
+    /** Player UUID or message key that was looked up. */
+    @Label("Key")
+    public String key;
+}
@@ -0,0 +1,36 @@
+package io.github.mcengine.common.lang.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event for one {@link io.github.mcengine.common.lang.database.IMCEngineLangDB} operation.
+ * Emitted by {@link MCEngineLangRecordingDB}; the event duration is the time spent in the backend.
+ */
+@Name("io.github.mcengine.lang.DatabaseOperation")
+@Label("Lang Database Operation")
+@Category({"MCEngine", "Lang"})
+@Description("A call into the Lang database backend")
+@StackTrace(false)
+public final class MCEngineLangDBEvent extends Event {
+
+    /** Backend type (e.g., {@code sqlite}). */
+    @Label("Backend")
+    public String backend;
+
+    /** Contract method (e.g., {@code findLang}). */
+    @Label("Operation")
+    public String operation;
+
+    /** Rows read or written, where the operation reports them. */
+    @Label("Rows")
+    public long rows;
+
+    /** {@code false} if the call threw or returned its error value. */
+    @Label("Success")
+    public boolean success;
+}
@@ -0,0 +1,274 @@
+package io.github.mcengine.common.lang.jfr;
+
+import io.github.mcengine.common.lang.database.IMCEngineLangDB;
+import io.github.mcengine.common.lang.database.IMCEngineLangRowMapper;
+import org.bukkit.entity.Player;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+/**
+ * Decorator that emits a {@link MCEngineLangDBEvent} for every call into another backend.
+ *
+ * <p>
+ * Each call creates an event, times it and commits it only if {@link MCEngineLangDBEvent#shouldCommit()}
+ * says a recording wants it; while no recording has the event enabled this is a couple of field writes
+ * and the JIT usually removes the allocation. Calls are otherwise passed through unchanged, including
+ * exceptions.
+ * </p>
+ */
+public final class MCEngineLangRecordingDB implements IMCEngineLangDB {
+
+    /** Backend being recorded. */
+    private final IMCEngineLangDB delegate;
+
+    /** Backend type reported in events (e.g., {@code sqlite}). */
+    private final String backend;
+
+    /**
+     * @param delegate backend to record
+     * @param backend  backend type reported in events
+     */
+    public MCEngineLangRecordingDB(IMCEngineLangDB delegate, String backend) {
+        this.delegate = delegate;
+        this.backend = backend;
+    }
+
+    /** @return the recorded backend */
+    public IMCEngineLangDB getDelegate() {
+        return delegate;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void executeQuery(String query) {
+        MCEngineLangDBEvent event = begin();
+        boolean ok = false;
+        try {
+            delegate.executeQuery(query);
+            ok = true;
+        } finally {
+            end(event, "executeQuery", 0, ok);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public <T> T getValue(String query, Class<T> type) {
+        MCEngineLangDBEvent event = begin();
+        T value = null;
+        boolean ok = false;
+        try {
+            value = delegate.getValue(query, type);
+            ok = true;
+            return value;
+        } finally {
+            end(event, "getValue", value == null ? 0 : 1, ok);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int executeUpdate(String sql, Object... params) {
+        MCEngineLangDBEvent event = begin();
+        int affected = -1;
+        try {
+            affected = delegate.executeUpdate(sql, params);
+            return affected;
+        } finally {
+            end(event, "executeUpdate", Math.max(0, affected), affected >= 0);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public <T> T getValue(String sql, Class<T> type, Object... params) {
+        MCEngineLangDBEvent event = begin();
+        T value = null;
+        boolean ok = false;
+        try {
+            value = delegate.getValue(sql, type, params);
+            ok = true;
+            return value;
+        } finally {
+            end(event, "getValue", value == null ? 0 : 1, ok);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public <T> long forEachRow(String sql, int fetchSize, IMCEngineLangRowMapper<T> mapper,
+                               Consumer<? super T> consumer, Object... params) {
+        MCEngineLangDBEvent event = begin();
+        long rows = -1;
+        try {
+            rows = delegate.forEachRow(sql, fetchSize, mapper, consumer, params);
+            return rows;
+        } finally {
+            end(event, "forEachRow", Math.max(0, rows), rows >= 0);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String getLang(Player player) {
+        MCEngineLangDBEvent event = begin();
+        boolean ok = false;
+        try {
+            String lang = delegate.getLang(player);
+            ok = true;
+            return lang;
+        } finally {
+            end(event, "getLang", ok ? 1 : 0, ok);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String findLang(UUID playerUuid) {
+        MCEngineLangDBEvent event = begin();
+        String lang = null;
+        boolean ok = false;
+        try {
+            lang = delegate.findLang(playerUuid);
+            ok = true;
+            return lang;
+        } finally {
+            end(event, "findLang", lang == null ? 0 : 1, ok);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void setLang(Player player, String langType) {
+        MCEngineLangDBEvent event = begin();
+        boolean ok = false;
+        try {
+            delegate.setLang(player, langType);
+            ok = true;
+        } finally {
+            end(event, "setLang", ok ? 1 : 0, ok);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void setLang(UUID playerUuid, String langType) {
+        MCEngineLangDBEvent event = begin();
+        boolean ok = false;
+        try {
+            delegate.setLang(playerUuid, langType);
+            ok = true;
+        } finally {
+            end(event, "setLang", ok ? 1 : 0, ok);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean changeLang(Player player, String newLangType) {
+        MCEngineLangDBEvent event = begin();
+        boolean changed = false;
+        boolean ok = false;
+        try {
+            changed = delegate.changeLang(player, newLangType);
+            ok = true;
+            return changed;
+        } finally {
+            end(event, "changeLang", changed ? 1 : 0, ok);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean deleteLang(UUID playerUuid) {
+        MCEngineLangDBEvent event = begin();
+        boolean removed = false;
+        boolean ok = false;
+        try {
+            removed = delegate.deleteLang(playerUuid);
+            ok = true;
+            return removed;
+        } finally {
+            end(event, "deleteLang", removed ? 1 : 0, ok);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public long forEachLang(String afterUuid, int fetchSize, BiConsumer<String, String> consumer) {
+        MCEngineLangDBEvent event = begin();
+        long rows = -1;
+        try {
+            rows = delegate.forEachLang(afterUuid, fetchSize, consumer);
+            return rows;
+        } finally {
+            end(event, "forEachLang", Math.max(0, rows), rows >= 0);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean setLangs(Map<String, String> rows) {
+        MCEngineLangDBEvent event = begin();
+        boolean applied = false;
+        try {
+            applied = delegate.setLangs(rows);
+            return applied;
+        } finally {
+            end(event, "setLangs", applied ? rows.size() : 0, applied);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Map<String, Long> countLangs() {
+        MCEngineLangDBEvent event = begin();
+        Map<String, Long> counts = null;
+        try {
+            counts = delegate.countLangs();
+            return counts;
+        } finally {
+            end(event, "countLangs", counts == null ? 0 : counts.size(), counts != null);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int getWriteParallelism() {
+        return delegate.getWriteParallelism();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void close() {
+        MCEngineLangDBEvent event = begin();
+        boolean ok = false;
+        try {
+            delegate.close();
+            ok = true;
+        } finally {
+            end(event, "close", 0, ok);
+        }
+    }
+
+    /** Creates and starts timing an event. */
+    private static MCEngineLangDBEvent begin() {
+        MCEngineLangDBEvent event = new MCEngineLangDBEvent();
+        event.begin();
+        return event;
+    }
+
+    /** Commits an event if a recording wants it. */
+    private void end(MCEngineLangDBEvent event, String operation, long rows, boolean success) {
+        event.end();
+        if (!event.shouldCommit()) return;
+        event.backend = backend;
+        event.operation = operation;
+        event.rows = rows;
+        event.success = success;
+        event.commit();
+    }
+}
@@ -0,0 +1,57 @@
+package io.github.mcengine.common.lang.listener;
+
+import io.github.mcengine.common.lang.MCEngineLangCommon;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.AsyncPlayerPreLoginEvent;
+import org.bukkit.event.player.PlayerLocaleChangeEvent;
+import org.bukkit.event.player.PlayerLoginEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+
+/**
+ * Keeps the Lang session cache in step with player sessions.
+ *
+ * <ul>
+ *   <li>{@link AsyncPlayerPreLoginEvent}: loads the player's language off the main thread.</li>
+ *   <li>{@link PlayerLoginEvent}: drops the staged entry if the login was denied afterwards.</li>
+ *   <li>{@link PlayerLocaleChangeEvent}: records the client locale used as the default language.</li>
+ *   <li>{@link PlayerQuitEvent}: drops the staged entry when the session ends.</li>
+ * </ul>
+ *
+ * <p>Registered automatically by {@link MCEngineLangCommon}.</p>
+ */
+public final class MCEngineLangListener implements Listener {
+
+    /** Shared Lang API facade. */
+    private final MCEngineLangCommon langCommon;
+
+    /**
+     * @param langCommon shared lang API
+     */
+    public MCEngineLangListener(MCEngineLangCommon langCommon) {
+        this.langCommon = langCommon;
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onAsyncPreLogin(AsyncPlayerPreLoginEvent event) {
+        if (event.getLoginResult() != AsyncPlayerPreLoginEvent.Result.ALLOWED) return;
+        langCommon.prefetchLang(event.getUniqueId());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onLogin(PlayerLoginEvent event) {
+        if (event.getResult() == PlayerLoginEvent.Result.ALLOWED) return;
+        langCommon.releaseLang(event.getPlayer().getUniqueId());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onLocaleChange(PlayerLocaleChangeEvent event) {
+        langCommon.updateClientLocale(event.getPlayer(), event.getLocale());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onQuit(PlayerQuitEvent event) {
+        langCommon.releaseLang(event.getPlayer().getUniqueId());
+    }
+}
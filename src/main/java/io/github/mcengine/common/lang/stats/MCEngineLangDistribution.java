@@ -0,0 +1,84 @@
+package io.github.mcengine.common.lang.stats;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Number of stored language rows per (normalized) language code, maintained incrementally.
+ *
+ * <p>
+ * Seeded from {@code IMCEngineLangDB#countLangs()} and then adjusted by
+ * {@link #move(String, String)} whenever a write from this server changes a player's stored language, so
+ * reads are O(1) instead of {@code GROUP BY} scans. Changes made by other servers sharing the
+ * same table are not observed until the next seed.
+ * </p>
+ *
+ * <p>
+ * A seed replaces the counters, so the caller must order it against the writes it records: no write may
+ * commit between the scan and {@link #seed(Map)} without its move following the seed.
+ * </p>
+ *
+ * <p>All methods are thread-safe.</p>
+ */
+public final class MCEngineLangDistribution {
+
+    /** Row count per normalized language code. */
+    private final Map<String, LongAdder> counts = new ConcurrentHashMap<>();
+
+    /** Whether a seed has been applied. */
+    private volatile boolean seeded;
+
+    /**
+     * Replaces the counters with the result of a table scan.
+     *
+     * @param scanned {@code normalized lang → row count}
+     */
+    public synchronized void seed(Map<String, Long> scanned) {
+        counts.clear();
+        scanned.forEach((lang, count) -> adder(lang).add(count));
+        seeded = true;
+    }
+
+    /**
+     * Records that one stored row moved from {@code from} to {@code to}.
+     *
+     * @param from previous normalized language, or {@code null} if the player had no row
+     * @param to   new normalized language, or {@code null} if the row was deleted
+     */
+    public void move(String from, String to) {
+        if (from != null && from.equals(to)) return;
+        if (from != null) adder(from).decrement();
+        if (to != null) adder(to).increment();
+    }
+
+    /**
+     * @param lang normalized language code
+     * @return stored rows with that language
+     */
+    public long count(String lang) {
+        LongAdder adder = counts.get(lang);
+        return adder == null ? 0L : adder.sum();
+    }
+
+    /** @return {@code normalized lang → row count}, sorted by language, omitting empty entries */
+    public Map<String, Long> snapshot() {
+        Map<String, Long> out = new TreeMap<>();
+        counts.forEach((lang, adder) -> {
+            long sum = adder.sum();
+            if (sum > 0) out.put(lang, sum);
+        });
+        return out;
+    }
+
+    /** @return {@code true} once a seed has been applied */
+    public boolean isSeeded() {
+        return seeded;
+    }
+
+    /** Returns the counter for a language, creating it on first use. */
+    private LongAdder adder(String lang) {
+        return counts.computeIfAbsent(lang, k -> new LongAdder());
+    }
+}
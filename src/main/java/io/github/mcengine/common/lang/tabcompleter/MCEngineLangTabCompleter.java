@@ -1,5 +1,6 @@
 package io.github.mcengine.common.lang.tabcompleter;
 
+import io.github.mcengine.common.lang.bundle.MCEngineLangBundleRegistry;
 import org.bukkit.command.Command;
 import org.bukkit.command.CommandSender;
 import org.bukkit.command.TabCompleter;
@@ -16,8 +17,10 @@ import java.util.List;
  * <p>
  * Suggestions:
  * <ul>
- *   <li>First argument: {@code set}, {@code change} (filtered by permissions)</li>
- *   <li>Second argument: language codes derived from files in {@code {pluginDataFolder}/lang/*.yml}</li>
+ *   <li>First argument: {@code set}, {@code change}, {@code stats}, {@code migrate} (filtered by permissions)</li>
+ *   <li>Second argument: language codes derived from files in {@code {pluginDataFolder}/lang/*.yml},
+ *       or database types for {@code migrate}</li>
+ *   <li>Third argument of {@code migrate}: database types</li>
  * </ul>
  * All suggestions are lower-case with hyphens, matching the command’s normalization behavior.
  * </p>
@@ -25,7 +28,10 @@ import java.util.List;
 public final class MCEngineLangTabCompleter implements TabCompleter {
 
     /** Subcommands offered at arg index 0. */
-    private static final List<String> SUBS = Arrays.asList("set", "change");
+    private static final List<String> SUBS = Arrays.asList("set", "change", "stats", "migrate");
+
+    /** Database types offered for {@code migrate}. */
+    private static final List<String> DB_TYPES = Arrays.asList("sqlite", "mysql", "postgresql", "memory", "log", "tiered");
 
     /** Permission required to use the /lang command at all. */
     private static final String PERM_USE = "mcengine.lang.use";
@@ -36,6 +42,12 @@ public final class MCEngineLangTabCompleter implements TabCompleter {
     /** Permission required to run subcommand {@code change}. */
     private static final String PERM_CHANGE = "mcengine.lang.change";
 
+    /** Permission required to run subcommand {@code stats}. */
+    private static final String PERM_STATS = "mcengine.lang.stats";
+
+    /** Permission required to run subcommand {@code migrate}. */
+    private static final String PERM_MIGRATE = "mcengine.lang.migrate";
+
     /** Owning plugin used to locate the lang directory. */
     private final Plugin plugin;
 
@@ -45,6 +57,16 @@ public final class MCEngineLangTabCompleter implements TabCompleter {
 
     @Override
     public List<String> onTabComplete(CommandSender sender, Command command, String alias, String[] args) {
+        if (args.length >= 1 && "migrate".equalsIgnoreCase(args[0]) && sender.hasPermission(PERM_MIGRATE)) {
+            if (args.length != 2 && args.length != 3) return List.of();
+            String prefix = args[args.length - 1].toLowerCase();
+            List<String> out = new ArrayList<>();
+            for (String t : DB_TYPES) {
+                if (t.startsWith(prefix)) out.add(t);
+            }
+            return out;
+        }
+
         // If sender lacks base permission, provide no suggestions.
         if (!sender.hasPermission(PERM_USE)) return List.of();
 
@@ -53,6 +75,8 @@ public final class MCEngineLangTabCompleter implements TabCompleter {
             List<String> out = new ArrayList<>();
             if (sender.hasPermission(PERM_SET) && "set".startsWith(prefix)) out.add("set");
             if (sender.hasPermission(PERM_CHANGE) && "change".startsWith(prefix)) out.add("change");
+            if (sender.hasPermission(PERM_STATS) && "stats".startsWith(prefix)) out.add("stats");
+            if (sender.hasPermission(PERM_MIGRATE) && "migrate".startsWith(prefix)) out.add("migrate");
             return out;
         }
 
@@ -76,12 +100,13 @@ public final class MCEngineLangTabCompleter implements TabCompleter {
     }
 
     /**
-     * Lists available language codes from {@code {dataFolder}/lang/*.yml}.
+     * Lists available language codes from bundle files in {@code {dataFolder}/lang}
+     * ({@code .yml}, {@code .json} or {@code .properties}).
      * Filenames are converted to lower-case and underscores are replaced with hyphens.
      */
     private List<String> listAvailableCodes() {
         File langDir = new File(plugin.getDataFolder(), "lang");
-        File[] files = langDir.listFiles((dir, name) -> name.toLowerCase().endsWith(".yml"));
+        File[] files = langDir.listFiles((dir, name) -> MCEngineLangBundleRegistry.isBundleFile(name));
         if (files == null || files.length == 0) return List.of("en-us");
 
         List<String> out = new ArrayList<>(files.length);
@@ -89,8 +114,8 @@ public final class MCEngineLangTabCompleter implements TabCompleter {
             String name = f.getName();
             int dot = name.lastIndexOf('.');
             if (dot > 0) {
-                String base = name.substring(0, dot);
-                out.add(normalize(base));
+                String code = normalize(name.substring(0, dot));
+                if (!out.contains(code)) out.add(code);
             }
         }
         if (out.isEmpty()) return List.of("en-us");